@@ -1,8 +1,6 @@
 package com.phoosop.reactive.annotations;
 
-import com.phoosop.reactive.exception.InvalidRequestException;
-import com.phoosop.reactive.util.DateTimeUtils;
-import org.apache.commons.lang3.StringUtils;
+import com.phoosop.reactive.util.ValidationUtils;
 import org.springframework.stereotype.Component;
 
 import javax.validation.ConstraintValidator;
@@ -25,12 +23,7 @@ public class IsDateAnnotation implements ConstraintValidator<IsDate, String> {
 
     @Override
     public boolean isValid(String date, ConstraintValidatorContext constraintValidatorContext) {
-        if (StringUtils.isNotBlank(date)) {
-            if (DateTimeUtils.parse(date, format).isPresent()) {
-                return true;
-            }
-            throw new InvalidRequestException(exception);
-        }
+        ValidationUtils.isDate(date, format, exception);
         return true;
     }
 
@@ -1,6 +1,6 @@
 package com.phoosop.reactive.annotations;
 
-import com.phoosop.reactive.exception.InvalidRequestException;
+import com.phoosop.reactive.util.ValidationUtils;
 import org.springframework.stereotype.Component;
 
 import javax.validation.ConstraintValidator;
@@ -12,28 +12,17 @@ import static com.phoosop.reactive.exception.StatusConstants.HttpConstants;
 public class MaxAnnotation implements ConstraintValidator<Max, Object> {
 
     private HttpConstants exception;
-    private long min;
+    private long max;
 
     @Override
     public void initialize(Max constraintAnnotation) {
         this.exception = constraintAnnotation.exception();
-        this.min = constraintAnnotation.value();
+        this.max = constraintAnnotation.value();
     }
 
     @Override
     public boolean isValid(Object value, ConstraintValidatorContext constraintValidatorContext) {
-        if (value != null) {
-            if (value instanceof Integer intValue) {
-                if (intValue > min) {
-                    throw new InvalidRequestException(exception);
-                }
-            } else if (value instanceof Long longValue) {
-                if (longValue > min) {
-                    throw new InvalidRequestException(exception);
-                }
-            }
-
-        }
+        ValidationUtils.max(value, max, exception);
         return true;
     }
 
@@ -1,6 +1,6 @@
 package com.phoosop.reactive.annotations;
 
-import com.phoosop.reactive.exception.InvalidRequestException;
+import com.phoosop.reactive.util.ValidationUtils;
 import org.springframework.stereotype.Component;
 
 import javax.validation.ConstraintValidator;
@@ -22,18 +22,7 @@ public class MinAnnotation implements ConstraintValidator<Min, Object> {
 
     @Override
     public boolean isValid(Object value, ConstraintValidatorContext constraintValidatorContext) {
-        if (value != null) {
-            if (value instanceof Integer intValue) {
-                if (intValue < min) {
-                    throw new InvalidRequestException(exception);
-                }
-            } else if (value instanceof Long longValue) {
-                if (longValue < min) {
-                    throw new InvalidRequestException(exception);
-                }
-            }
-
-        }
+        ValidationUtils.min(value, min, exception);
         return true;
     }
 
@@ -1,7 +1,6 @@
 package com.phoosop.reactive.annotations;
 
-import com.phoosop.reactive.exception.InvalidRequestException;
-import org.apache.commons.lang3.StringUtils;
+import com.phoosop.reactive.util.ValidationUtils;
 import org.springframework.stereotype.Component;
 
 import javax.validation.ConstraintValidator;
@@ -21,11 +20,7 @@ public class RequiredAnnotation implements ConstraintValidator<Required, Object>
 
     @Override
     public boolean isValid(Object o, ConstraintValidatorContext constraintValidatorContext) {
-        if (o == null) {
-            throw new InvalidRequestException(exception);
-        } else if (o instanceof String && StringUtils.isBlank((String) o)) {
-            throw new InvalidRequestException(exception);
-        }
+        ValidationUtils.required(o, exception);
         return true;
     }
 
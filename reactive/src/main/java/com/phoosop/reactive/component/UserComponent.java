@@ -0,0 +1,482 @@
+package com.phoosop.reactive.component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.phoosop.reactive.config.UserProperties;
+import com.phoosop.reactive.exception.InvalidRequestException;
+import com.phoosop.reactive.exception.NotFoundException;
+import com.phoosop.reactive.exception.ServiceException;
+import com.phoosop.reactive.exception.StatusConstants.HttpConstants;
+import com.phoosop.reactive.exception.TooManyRequestsException;
+import com.phoosop.reactive.model.CustomPage;
+import com.phoosop.reactive.model.Status;
+import com.phoosop.reactive.model.command.ActivityCommand;
+import com.phoosop.reactive.model.command.UserCommand;
+import com.phoosop.reactive.model.enums.KeyAlgorithm;
+import com.phoosop.reactive.model.enums.UserLevel;
+import com.phoosop.reactive.model.enums.UserStatus;
+import com.phoosop.reactive.model.enums.UserType;
+import com.phoosop.reactive.model.request.BatchUpdateUserRequest;
+import com.phoosop.reactive.model.request.CreateUserRequest;
+import com.phoosop.reactive.model.request.UpdateUserRequest;
+import com.phoosop.reactive.model.response.ActivityResponse;
+import com.phoosop.reactive.model.response.BatchItemResponse;
+import com.phoosop.reactive.model.response.GeneratedKeyResponse;
+import com.phoosop.reactive.model.response.ImportProgressResponse;
+import com.phoosop.reactive.model.response.UserResponse;
+import com.phoosop.reactive.model.response.UserShortResponse;
+import com.phoosop.reactive.service.crypto.CryptoExecutorService;
+import com.phoosop.reactive.service.crypto.KeyGenerationService;
+import com.phoosop.reactive.service.crypto.KeyPairPoolService;
+import com.phoosop.reactive.service.persistence.UserPersistenceService;
+import com.phoosop.reactive.service.webclient.BoredapiClientService;
+import com.phoosop.reactive.util.CsvUtils;
+import com.phoosop.reactive.validation.RequestValidator;
+import com.phoosop.reactive.validation.RequestValidators;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.StringDecoder;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import javax.validation.ValidationException;
+import javax.validation.Validator;
+import java.security.KeyPair;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+
+@Component
+@RequiredArgsConstructor
+public class UserComponent {
+
+    private static final StringDecoder LINE_DECODER = StringDecoder.textPlainOnly(List.of("\n"), true);
+
+    private final Logger LOG = LoggerFactory.getLogger(UserComponent.class);
+
+    private final UserPersistenceService userPersistenceService;
+    private final BoredapiClientService boredapiClientService;
+    private final KeyPairPoolService keyPairPoolService;
+    private final CryptoExecutorService cryptoExecutorService;
+    private final KeyGenerationService keyGenerationService;
+    private final ConversionService conversionService;
+    private final UserProperties userProperties;
+    private final Validator validator;
+    private final RequestValidators requestValidators;
+    private final ObjectMapper objectMapper;
+
+    public Mono<UserResponse> createUser(CreateUserRequest request) {
+        UserCommand userCommand = conversionService.convert(request, UserCommand.class);
+        userCommand.setLevel(UserLevel.LEVEL_1);
+        return userPersistenceService.save(userCommand)
+                .map(item -> conversionService.convert(item, UserResponse.class));
+    }
+
+    public Mono<List<BatchItemResponse>> createUsers(List<CreateUserRequest> requests) {
+        return Mono.fromCallable(() -> validate(requests))
+                .flatMap(items -> {
+                    List<Integer> indexes = successful(items);
+                    List<UserCommand> userCommands = indexes.stream()
+                            .map(index -> conversionService.convert(requests.get(index), UserCommand.class)
+                                    .setLevel(UserLevel.LEVEL_1))
+                            .collect(Collectors.toList());
+                    Mono<List<UserCommand>> savedMono = userCommands.isEmpty()
+                            ? Mono.just(userCommands)
+                            : userPersistenceService.saveAll(userCommands);
+                    return savedMono.map(saved -> {
+                        for (int i = 0; i < indexes.size(); i++) {
+                            items.get(indexes.get(i)).setId(saved.get(i).getId());
+                        }
+                        return items;
+                    });
+                });
+    }
+
+    public Flux<ImportProgressResponse> importUsers(Flux<DataBuffer> body, boolean csv) {
+        return Flux.defer(() -> {
+            long started = System.nanoTime();
+            AtomicLong processed = new AtomicLong();
+            AtomicLong imported = new AtomicLong();
+            AtomicLong failed = new AtomicLong();
+            // one batch in flight at a time, so the request body is only read as fast as batches are written
+            return records(body, csv)
+                    .buffer(userProperties.getImporting().getBatchSize())
+                    .concatMap(this::importBatch, 1)
+                    .map(result -> progress(started, processed.addAndGet(result.processed()), imported.addAndGet(result.imported()),
+                            failed.addAndGet(result.errors().size()), result.errors()))
+                    .concatWith(Mono.fromSupplier(() -> {
+                        ImportProgressResponse progress = progress(started, processed.get(), imported.get(), failed.get(), List.of())
+                                .setDone(true);
+                        LOG.info("Imported {} of {} users in {} ms ({} records/s)", progress.getImported(), progress.getProcessed(),
+                                progress.getElapsedMillis(), progress.getRecordsPerSecond());
+                        return progress;
+                    }));
+        });
+    }
+
+    public Mono<UserResponse> updateUser(long id, UpdateUserRequest request) {
+        return Mono.fromCallable(() -> toChanges(request))
+                .flatMap(changes -> userPersistenceService.update(id, changes))
+                .switchIfEmpty(Mono.error(NotFoundException.of(HttpConstants.USER_NOT_FOUND)))
+                .map(item -> conversionService.convert(item, UserResponse.class));
+    }
+
+    public Mono<List<BatchItemResponse>> updateUsers(List<BatchUpdateUserRequest> requests) {
+        return Mono.fromCallable(() -> validate(requests))
+                .flatMap(items -> {
+                    List<Integer> indexes = successful(items);
+                    List<UserCommand> changes = indexes.stream()
+                            .map(index -> toChanges(requests.get(index)).setId(requests.get(index).getId()))
+                            .collect(Collectors.toList());
+                    Mono<List<Boolean>> updatedMono = changes.isEmpty()
+                            ? Mono.just(List.of())
+                            : userPersistenceService.updateAll(changes);
+                    return updatedMono.map(updated -> {
+                        for (int i = 0; i < indexes.size(); i++) {
+                            BatchItemResponse item = items.get(indexes.get(i)).setId(changes.get(i).getId());
+                            if (!updated.get(i)) {
+                                item.setStatus(new Status(HttpConstants.USER_NOT_FOUND));
+                            }
+                        }
+                        return items;
+                    });
+                });
+    }
+
+    public Mono<UserResponse> getUser(long id) {
+        Mono<UserResponse> userResponseMono = userPersistenceService.findById(id)
+                .switchIfEmpty(Mono.error(NotFoundException.of(HttpConstants.USER_NOT_FOUND)))
+                .map(item -> conversionService.convert(item, UserResponse.class));
+        Mono<Optional<ActivityCommand>> activityCommandMono = boredapiClientService.getActivity()
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty());
+        // both calls start together, a missing user cancels the activity call. Without an activity, e.g. while the
+        // circuit breaker is open, the user is returned on its own
+        return Mono.zip(userResponseMono, activityCommandMono,
+                (userResponse, activityCommand) -> activityCommand
+                        .map(item -> setActivity(userResponse, item))
+                        .orElse(userResponse));
+    }
+
+    public Mono<CustomPage<UserShortResponse>> getUserList(Pageable pageable) {
+        return userPersistenceService.findAll(pageable)
+                .map(pageResponse -> pageResponse.map(item -> conversionService.convert(item, UserShortResponse.class)));
+    }
+
+    public Mono<CustomPage<UserShortResponse>> includeActivity(CustomPage<UserShortResponse> page) {
+        UserProperties.ActivityEnrichment activityEnrichment = userProperties.getActivityEnrichment();
+        // one deadline for the whole page, items still waiting for an activity when it fires are returned without one
+        AtomicBoolean expired = new AtomicBoolean();
+        Mono<Long> deadline = Mono.delay(Duration.ofMillis(activityEnrichment.getDeadline()))
+                .doOnNext(tick -> expired.set(true))
+                .cache();
+        // one page may only take so many activities from the pool, the pool is shared by every request
+        AtomicInteger pooled = new AtomicInteger();
+        return Flux.fromIterable(page.getContent())
+                // items reached after the deadline don't ask for an activity at all, it would take one from the pool
+                // only to drop it
+                .flatMapSequential(item -> expired.get() ? Mono.just(item) : activity(pooled, activityEnrichment)
+                        .takeUntilOther(deadline)
+                        .map(activityCommand -> setActivity(item, activityCommand))
+                        .onErrorResume(throwable -> Mono.empty())
+                        .defaultIfEmpty(item), activityEnrichment.getMaxConcurrency())
+                .collectList()
+                .map(page::setContent);
+    }
+
+    public Mono<CustomPage<UserShortResponse>> getUserListWithoutCount(Pageable pageable) {
+        return userPersistenceService.findAllWithoutCount(pageable)
+                .map(pageResponse -> pageResponse.map(item -> conversionService.convert(item, UserShortResponse.class)));
+    }
+
+    public Mono<CustomPage<UserShortResponse>> getUserListAfter(String after, int size) {
+        return userPersistenceService.findAllAfter(after, size)
+                .map(pageResponse -> pageResponse.map(item -> conversionService.convert(item, UserShortResponse.class)));
+    }
+
+    public Flux<UserResponse> streamUsers() {
+        return userPersistenceService.streamAll()
+                .map(item -> conversionService.convert(item, UserResponse.class));
+    }
+
+    public Mono<Void> deleteUser(long id) {
+        return userPersistenceService.delete(id);
+    }
+
+    public Mono<List<BatchItemResponse>> deleteUsers(List<Long> ids) {
+        return Mono.fromCallable(() -> validate(ids))
+                .flatMap(items -> {
+                    List<Integer> indexes = successful(items);
+                    List<Long> validIds = indexes.stream()
+                            .map(ids::get)
+                            .collect(Collectors.toList());
+                    Mono<List<Long>> deletedMono = validIds.isEmpty()
+                            ? Mono.just(validIds)
+                            : userPersistenceService.deleteAll(validIds);
+                    return deletedMono.map(deleted -> {
+                        Set<Long> deletedIds = new HashSet<>(deleted);
+                        for (int index : indexes) {
+                            BatchItemResponse item = items.get(index).setId(ids.get(index));
+                            if (!deletedIds.contains(ids.get(index))) {
+                                item.setStatus(new Status(HttpConstants.USER_NOT_FOUND));
+                            }
+                        }
+                        return items;
+                    });
+                });
+    }
+
+    public Mono<String> generateRSA(Long id, String algorithm) {
+        return Mono.justOrEmpty(KeyAlgorithm.find(algorithm))
+                .switchIfEmpty(Mono.error(InvalidRequestException.of(HttpConstants.KEY_ALGORITHM_IS_INVALID)))
+                .flatMap(keyAlgorithm -> userPersistenceService.findById(id)
+                        .switchIfEmpty(Mono.error(NotFoundException.of(HttpConstants.USER_NOT_FOUND)))
+                        .flatMap(userCommand -> generateKeyPair(keyAlgorithm)))
+                .map(this::encodePrivateKey);
+    }
+
+    public Flux<GeneratedKeyResponse> generateKeys(List<Long> ids, String algorithm) {
+        return Mono.justOrEmpty(KeyAlgorithm.find(algorithm))
+                .switchIfEmpty(Mono.error(InvalidRequestException.of(HttpConstants.KEY_ALGORITHM_IS_INVALID)))
+                .zipWith(Mono.fromCallable(() -> validate(ids)))
+                // one generation in flight per crypto thread, lines are written in completion order and carry the
+                // index of their id
+                .flatMapMany(tuple -> Flux.fromIterable(tuple.getT2())
+                        .flatMap(item -> generateKey(item, ids.get(item.getIndex()), tuple.getT1()),
+                                cryptoExecutorService.getParallelism()));
+    }
+
+    private Mono<GeneratedKeyResponse> generateKey(BatchItemResponse item, Long id, KeyAlgorithm algorithm) {
+        GeneratedKeyResponse generatedKeyResponse = new GeneratedKeyResponse()
+                .setIndex(item.getIndex())
+                .setId(id)
+                .setStatus(item.getStatus());
+        if (!HttpConstants.SUCCESS.getCode().equals(item.getStatus().getCode())) {
+            return Mono.just(generatedKeyResponse);
+        }
+        // the key pool is sized for single requests, a bulk request would drain it, so it generates every key itself
+        return userPersistenceService.findById(id)
+                .flatMap(userCommand -> cryptoExecutorService.execute(() -> keyGenerationService.generate(algorithm)))
+                .map(keyPair -> generatedKeyResponse.setPrivateKey(encodePrivateKey(keyPair)))
+                .switchIfEmpty(Mono.fromSupplier(() -> generatedKeyResponse.setStatus(new Status(HttpConstants.USER_NOT_FOUND))))
+                .onErrorResume(throwable -> {
+                    if (throwable instanceof TooManyRequestsException exception) {
+                        return Mono.just(generatedKeyResponse.setStatus(new Status(exception.getStatus())));
+                    }
+                    LOG.error("Failed to generate key for user {}: {}", id, throwable.getMessage());
+                    return Mono.just(generatedKeyResponse.setStatus(new Status(HttpConstants.INTERNAL_SERVER_ERROR)));
+                });
+    }
+
+    private String encodePrivateKey(KeyPair keyPair) {
+        return Base64.getEncoder().encodeToString(keyPair.getPrivate().getEncoded());
+    }
+
+    private Mono<KeyPair> generateKeyPair(KeyAlgorithm algorithm) {
+        KeyPair keyPair = keyPairPoolService.poll(algorithm);
+        if (keyPair != null) {
+            return Mono.just(keyPair);
+        }
+        return cryptoExecutorService.execute(() -> keyGenerationService.generate(algorithm));
+    }
+
+    private UserResponse setActivity(UserResponse userResponse, ActivityCommand activityCommand) {
+        if (activityCommand.getRaw() != null) {
+            return userResponse.setRawActivity(activityCommand.getRaw());
+        }
+        return userResponse.setActivity(conversionService.convert(activityCommand, ActivityResponse.class));
+    }
+
+    private Mono<ActivityCommand> activity(AtomicInteger pooled, UserProperties.ActivityEnrichment activityEnrichment) {
+        return pooled.getAndIncrement() < activityEnrichment.getMaxPooled()
+                ? boredapiClientService.getActivity()
+                : boredapiClientService.getCachedActivity();
+    }
+
+    private UserShortResponse setActivity(UserShortResponse userShortResponse, ActivityCommand activityCommand) {
+        if (activityCommand.getRaw() != null) {
+            return userShortResponse.setRawActivity(activityCommand.getRaw());
+        }
+        return userShortResponse.setActivity(conversionService.convert(activityCommand, ActivityResponse.class));
+    }
+
+    private UserCommand toChanges(UpdateUserRequest request) {
+        UserCommand changes = new UserCommand();
+        if (StringUtils.isNotBlank(request.getCardId())) {
+            changes.setCardId(request.getCardId());
+        }
+        if (StringUtils.isNotBlank(request.getFirstName())) {
+            changes.setFirstName(request.getFirstName());
+        }
+        if (StringUtils.isNotBlank(request.getSecondName())) {
+            changes.setSecondName(request.getSecondName());
+        }
+        if (StringUtils.isNotBlank(request.getType())) {
+            changes.setType(UserType.find(request.getType())
+                    .orElseThrow(() -> ServiceException.of(HttpConstants.FAILED_TO_CONVERT_VALUE_TO_ENUM)));
+        }
+        if (request.getStatus() != null) {
+            changes.setStatus(UserStatus.find(request.getStatus())
+                    .orElseThrow(() -> ServiceException.of(HttpConstants.FAILED_TO_CONVERT_VALUE_TO_ENUM)));
+        }
+        if (StringUtils.isNotBlank(request.getDateOfBirth())) {
+            changes.setDateOfBirth(request.getDateOfBirth());
+        }
+        if (request.getAge() != null) {
+            changes.setAge(request.getAge());
+        }
+        return changes;
+    }
+
+    private List<BatchItemResponse> validate(List<?> requests) {
+        if (requests.isEmpty() || requests.size() > userProperties.getBatch().getMaxSize()) {
+            throw InvalidRequestException.of(HttpConstants.BATCH_SIZE_IS_INVALID);
+        }
+        List<BatchItemResponse> items = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            items.add(new BatchItemResponse()
+                    .setIndex(i)
+                    .setStatus(validate(requests.get(i))));
+        }
+        return items;
+    }
+
+    private Status validate(Object request) {
+        if (request == null) {
+            return new Status(HttpConstants.BAD_REQUEST);
+        }
+        // the constraint validators report the first failure by throwing, the same way @Valid does on single requests
+        try {
+            RequestValidator<Object> requestValidator = requestValidators.find(request.getClass());
+            if (requestValidator != null) {
+                requestValidator.validate(request);
+            } else if (!validator.validate(request).isEmpty()) {
+                return new Status(HttpConstants.BAD_REQUEST);
+            }
+        } catch (InvalidRequestException exception) {
+            return new Status(exception.getStatus());
+        } catch (ValidationException exception) {
+            if (exception.getCause() instanceof InvalidRequestException invalidRequestException) {
+                return new Status(invalidRequestException.getStatus());
+            }
+            throw exception;
+        }
+        return new Status(HttpConstants.SUCCESS);
+    }
+
+    private List<Integer> successful(List<BatchItemResponse> items) {
+        return items.stream()
+                .filter(item -> HttpConstants.SUCCESS.getCode().equals(item.getStatus().getCode()))
+                .map(BatchItemResponse::getIndex)
+                .collect(Collectors.toList());
+    }
+
+    private Flux<ImportRecord> records(Flux<DataBuffer> body, boolean csv) {
+        Flux<String> lines = LINE_DECODER.decode(body, ResolvableType.forClass(String.class), null, null)
+                .map(line -> StringUtils.removeEnd(line, "\r"))
+                .filter(StringUtils::isNotBlank);
+        if (!csv) {
+            return lines.index()
+                    .map(line -> parseJson(line.getT1(), line.getT2()));
+        }
+        return Flux.defer(() -> {
+            AtomicReference<List<String>> header = new AtomicReference<>();
+            return lines.index()
+                    .handle((line, sink) -> {
+                        if (header.get() == null) {
+                            header.set(CsvUtils.split(line.getT2()));
+                        } else {
+                            sink.next(parseCsv(line.getT1() - 1, header.get(), line.getT2()));
+                        }
+                    });
+        });
+    }
+
+    private ImportRecord parseJson(long index, String line) {
+        try {
+            return new ImportRecord(index, objectMapper.readValue(line, CreateUserRequest.class), null);
+        } catch (JsonProcessingException exception) {
+            return new ImportRecord(index, null, new Status(HttpConstants.RECORD_IS_INVALID));
+        }
+    }
+
+    private ImportRecord parseCsv(long index, List<String> header, String line) {
+        List<String> values = CsvUtils.split(line);
+        Map<String, String> fields = new LinkedHashMap<>();
+        for (int i = 0; i < Math.min(header.size(), values.size()); i++) {
+            if (StringUtils.isNotEmpty(values.get(i))) {
+                fields.put(header.get(i).trim(), values.get(i));
+            }
+        }
+        try {
+            return new ImportRecord(index, objectMapper.convertValue(fields, CreateUserRequest.class), null);
+        } catch (IllegalArgumentException exception) {
+            return new ImportRecord(index, null, new Status(HttpConstants.RECORD_IS_INVALID));
+        }
+    }
+
+    private Mono<ImportBatch> importBatch(List<ImportRecord> batch) {
+        return Mono.fromCallable(() -> {
+                    List<BatchItemResponse> errors = new ArrayList<>();
+                    List<UserCommand> userCommands = new ArrayList<>();
+                    for (ImportRecord record : batch) {
+                        Status status = record.status() != null ? record.status() : validate(record.request());
+                        if (HttpConstants.SUCCESS.getCode().equals(status.getCode())) {
+                            userCommands.add(conversionService.convert(record.request(), UserCommand.class)
+                                    .setLevel(UserLevel.LEVEL_1));
+                        } else {
+                            errors.add(new BatchItemResponse()
+                                    .setIndex((int) record.index())
+                                    .setStatus(status));
+                        }
+                    }
+                    return new ImportBatch(batch.size(), userCommands, errors);
+                })
+                .flatMap(importBatch -> importBatch.userCommands().isEmpty()
+                        ? Mono.just(importBatch)
+                        : userPersistenceService.saveAll(importBatch.userCommands()).thenReturn(importBatch));
+    }
+
+    private ImportProgressResponse progress(long started, long processed, long imported, long failed, List<BatchItemResponse> errors) {
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        return new ImportProgressResponse()
+                .setProcessed(processed)
+                .setImported(imported)
+                .setFailed(failed)
+                .setElapsedMillis(elapsedMillis)
+                .setRecordsPerSecond(elapsedMillis == 0 ? processed : processed * 1000 / elapsedMillis)
+                .setErrors(errors);
+    }
+
+    private record ImportRecord(long index, CreateUserRequest request, Status status) {
+    }
+
+    private record ImportBatch(int processed, List<UserCommand> userCommands, List<BatchItemResponse> errors) {
+
+        int imported() {
+            return userCommands.size();
+        }
+
+    }
+
+}
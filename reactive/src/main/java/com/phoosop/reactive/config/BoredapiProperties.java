@@ -0,0 +1,192 @@
+package com.phoosop.reactive.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import java.time.Duration;
+
+@Getter
+@Setter
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "boredapi")
+public class BoredapiProperties {
+
+    @NotEmpty
+    private String host;
+
+    @Valid
+    private Path path;
+
+    @NotNull
+    private Boolean passthrough;
+
+    @Valid
+    private Connection connection;
+
+    @Valid
+    private Timeout timeout;
+
+    @Valid
+    private Cache cache;
+
+    @Valid
+    private Pool pool;
+
+    @Valid
+    private CircuitBreaker circuitBreaker;
+
+    @Valid
+    private Hedge hedge;
+
+    @Getter
+    @Setter
+    public static class Path {
+
+        @NotEmpty
+        private String getActivity;
+
+    }
+
+    @Getter
+    @Setter
+    public static class Connection {
+
+        @NotNull
+        private Integer maxConnections;
+
+        @NotNull
+        private Integer pendingAcquireMaxCount;
+
+        @NotNull
+        private Duration pendingAcquireTimeout;
+
+        @NotNull
+        private Duration maxIdleTime;
+
+        @NotNull
+        private Duration maxLifeTime;
+
+        @NotNull
+        private Duration evictInBackground;
+
+        @NotNull
+        private Duration connectTimeout;
+
+        @NotNull
+        private Duration writeTimeout;
+
+        @NotNull
+        private Duration responseTimeout;
+
+        @NotNull
+        private Boolean metricsEnabled;
+
+    }
+
+    @Getter
+    @Setter
+    public static class Timeout {
+
+        @NotNull
+        private Duration getActivity;
+
+    }
+
+    @Getter
+    @Setter
+    public static class Cache {
+
+        @NotNull
+        private Boolean enabled;
+
+        @NotNull
+        private Duration ttl;
+
+        @NotNull
+        private Duration staleWhileRevalidate;
+
+        @NotNull
+        private Duration staleIfError;
+
+    }
+
+    @Getter
+    @Setter
+    public static class Pool {
+
+        @NotNull
+        private Boolean enabled;
+
+        @NotNull
+        private Integer size;
+
+        @NotNull
+        private Integer concurrency;
+
+        @NotNull
+        private Duration refillInterval;
+
+    }
+
+    @Getter
+    @Setter
+    public static class CircuitBreaker {
+
+        @NotNull
+        private Boolean enabled;
+
+        @NotNull
+        private Integer windowSize;
+
+        @NotNull
+        private Integer minimumCalls;
+
+        @NotNull
+        private Integer failureRateThreshold;
+
+        @NotNull
+        private Integer slowCallRateThreshold;
+
+        @NotNull
+        private Duration slowCallDuration;
+
+        @NotNull
+        private Duration waitDurationInOpen;
+
+        @NotNull
+        private Integer permittedCallsInHalfOpen;
+
+        @NotNull
+        private Boolean fallbackToEmpty;
+
+    }
+
+    @Getter
+    @Setter
+    public static class Hedge {
+
+        @NotNull
+        private Boolean enabled;
+
+        @NotNull
+        private Duration delay;
+
+        @NotNull
+        private Boolean usePercentile;
+
+        @NotNull
+        private Integer budget;
+
+        @NotNull
+        private Integer maxBurst;
+
+    }
+
+}
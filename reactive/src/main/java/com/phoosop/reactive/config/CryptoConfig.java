@@ -0,0 +1,36 @@
+package com.phoosop.reactive.config;
+
+import com.phoosop.reactive.model.enums.KeyAlgorithm;
+import com.phoosop.reactive.service.crypto.JcaKeyGenerationStrategy;
+import com.phoosop.reactive.service.crypto.KeyGenerationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.NamedParameterSpec;
+import java.security.spec.RSAKeyGenParameterSpec;
+
+@Configuration
+public class CryptoConfig {
+
+    @Bean
+    public KeyGenerationStrategy rsa2048KeyGenerationStrategy() {
+        return new JcaKeyGenerationStrategy(KeyAlgorithm.RSA_2048, "RSA", new RSAKeyGenParameterSpec(2048, RSAKeyGenParameterSpec.F4));
+    }
+
+    @Bean
+    public KeyGenerationStrategy rsa3072KeyGenerationStrategy() {
+        return new JcaKeyGenerationStrategy(KeyAlgorithm.RSA_3072, "RSA", new RSAKeyGenParameterSpec(3072, RSAKeyGenParameterSpec.F4));
+    }
+
+    @Bean
+    public KeyGenerationStrategy ecP256KeyGenerationStrategy() {
+        return new JcaKeyGenerationStrategy(KeyAlgorithm.EC_P256, "EC", new ECGenParameterSpec("secp256r1"));
+    }
+
+    @Bean
+    public KeyGenerationStrategy ed25519KeyGenerationStrategy() {
+        return new JcaKeyGenerationStrategy(KeyAlgorithm.ED25519, "Ed25519", NamedParameterSpec.ED25519);
+    }
+
+}
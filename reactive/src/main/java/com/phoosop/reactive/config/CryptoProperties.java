@@ -0,0 +1,62 @@
+package com.phoosop.reactive.config;
+
+import com.phoosop.reactive.model.enums.KeyAlgorithm;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotNull;
+
+@Getter
+@Setter
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "crypto")
+public class CryptoProperties {
+
+    @Valid
+    private KeyPool keyPool;
+
+    @Valid
+    private Executor executor;
+
+    @Getter
+    @Setter
+    public static class KeyPool {
+
+        @NotNull
+        private Boolean enabled;
+
+        @NotNull
+        private KeyAlgorithm algorithm;
+
+        @NotNull
+        private Integer lowWatermark;
+
+        @NotNull
+        private Integer highWatermark;
+
+        @NotNull
+        private Integer threads;
+
+        @NotNull
+        private Integer refillInterval;
+
+    }
+
+    @Getter
+    @Setter
+    public static class Executor {
+
+        @NotNull
+        private Integer threads;
+
+        @NotNull
+        private Integer queueSize;
+
+    }
+
+}
@@ -0,0 +1,127 @@
+package com.phoosop.reactive.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotNull;
+
+@Getter
+@Setter
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "user")
+public class UserProperties {
+
+    @Valid
+    private Count count;
+
+    @Valid
+    private Cache cache;
+
+    @Valid
+    private ReadBatch readBatch;
+
+    @Valid
+    private WriteBatch writeBatch;
+
+    @Valid
+    private Batch batch;
+
+    @Valid
+    private Import importing;
+
+    @Valid
+    private ActivityEnrichment activityEnrichment;
+
+    @Getter
+    @Setter
+    public static class Count {
+
+        @NotNull
+        private Integer reconcileInterval;
+
+    }
+
+    @Getter
+    @Setter
+    public static class Cache {
+
+        @NotNull
+        private Long maximumSize;
+
+        @NotNull
+        private Integer expireAfterWrite;
+
+    }
+
+    @Getter
+    @Setter
+    public static class ReadBatch {
+
+        @NotNull
+        private Integer maxSize;
+
+        @NotNull
+        private Integer window;
+
+        @NotNull
+        private Integer maxConcurrency;
+
+    }
+
+    @Getter
+    @Setter
+    public static class WriteBatch {
+
+        @NotNull
+        private Boolean enabled;
+
+        @NotNull
+        private Integer maxSize;
+
+        @NotNull
+        private Integer window;
+
+        @NotNull
+        private Integer maxConcurrency;
+
+    }
+
+    @Getter
+    @Setter
+    public static class Batch {
+
+        @NotNull
+        private Integer maxSize;
+
+    }
+
+    @Getter
+    @Setter
+    public static class Import {
+
+        @NotNull
+        private Integer batchSize;
+
+    }
+
+    @Getter
+    @Setter
+    public static class ActivityEnrichment {
+
+        @NotNull
+        private Integer maxConcurrency;
+
+        @NotNull
+        private Integer deadline;
+
+        @NotNull
+        private Integer maxPooled;
+
+    }
+
+}
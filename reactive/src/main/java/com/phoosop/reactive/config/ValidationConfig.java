@@ -0,0 +1,30 @@
+package com.phoosop.reactive.config;
+
+import com.phoosop.reactive.validation.RequestValidatorAdapter;
+import com.phoosop.reactive.validation.RequestValidators;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+
+import javax.validation.Validator;
+
+@Configuration
+@RequiredArgsConstructor
+public class ValidationConfig implements WebFluxConfigurer {
+
+    private final Validator validator;
+
+    @Bean
+    public RequestValidators requestValidators() {
+        return new RequestValidators();
+    }
+
+    @Override
+    public org.springframework.validation.Validator getValidator() {
+        // requests with generated validators skip the reflective bean validation on @Valid arguments
+        return new RequestValidatorAdapter(requestValidators(), new SpringValidatorAdapter(validator));
+    }
+
+}
@@ -1,8 +1,10 @@
 package com.phoosop.reactive.config;
 
+import io.netty.channel.ChannelOption;
 import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslContextBuilder;
 import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
+import io.netty.handler.timeout.WriteTimeoutHandler;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -12,12 +14,14 @@ import reactor.netty.http.client.HttpClient;
 import reactor.netty.resources.ConnectionProvider;
 
 import javax.net.ssl.SSLException;
-import java.time.Duration;
+import java.util.concurrent.TimeUnit;
 
 @Configuration
 @RequiredArgsConstructor
 public class WebClientConfig {
 
+    private static final String WRITE_TIMEOUT_HANDLER = "boredapiWriteTimeout";
+
     private final BoredapiProperties boredapiProperties;
 
     @Bean
@@ -27,16 +31,26 @@ public class WebClientConfig {
                 .trustManager(InsecureTrustManagerFactory.INSTANCE)
                 .build();
 
+        BoredapiProperties.Connection connection = boredapiProperties.getConnection();
         ConnectionProvider connectionProvider = ConnectionProvider.builder("boredapi")
-//                .maxConnections(500)
-//                .pendingAcquireMaxCount(1000)
-                .maxIdleTime(Duration.ofSeconds(20))
-                .maxLifeTime(Duration.ofSeconds(60))
-                .pendingAcquireTimeout(Duration.ofSeconds(60))
+                .maxConnections(connection.getMaxConnections())
+                .pendingAcquireMaxCount(connection.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(connection.getPendingAcquireTimeout())
+                .maxIdleTime(connection.getMaxIdleTime())
+                .maxLifeTime(connection.getMaxLifeTime())
+                .evictInBackground(connection.getEvictInBackground())
+                .metrics(connection.getMetricsEnabled())
                 .build();
 
         HttpClient httpClient = HttpClient.create(connectionProvider)
-                .secure(sslSpec -> sslSpec.sslContext(sslContext));
+                .secure(sslSpec -> sslSpec.sslContext(sslContext))
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connection.getConnectTimeout().toMillis())
+                .responseTimeout(connection.getResponseTimeout())
+                // the write timeout only guards sending a request, a pooled connection idling between requests must
+                // not be closed by it
+                .doOnRequest((request, conn) -> conn.addHandlerLast(WRITE_TIMEOUT_HANDLER,
+                        new WriteTimeoutHandler(connection.getWriteTimeout().toMillis(), TimeUnit.MILLISECONDS)))
+                .doOnResponse((response, conn) -> conn.removeHandler(WRITE_TIMEOUT_HANDLER));
 
         return WebClient.builder()
                 .baseUrl(boredapiProperties.getHost())
@@ -0,0 +1,130 @@
+package com.phoosop.reactive.controller;
+
+import com.phoosop.reactive.component.UserComponent;
+import com.phoosop.reactive.model.CustomPage;
+import com.phoosop.reactive.model.Response;
+import com.phoosop.reactive.model.request.BatchUpdateUserRequest;
+import com.phoosop.reactive.model.request.CreateUserRequest;
+import com.phoosop.reactive.model.request.UpdateUserRequest;
+import com.phoosop.reactive.model.response.BatchItemResponse;
+import com.phoosop.reactive.model.response.GeneratedKeyResponse;
+import com.phoosop.reactive.model.response.ImportProgressResponse;
+import com.phoosop.reactive.model.response.UserResponse;
+import com.phoosop.reactive.model.response.UserShortResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import javax.validation.Valid;
+import java.util.List;
+import java.util.Set;
+
+@Validated
+@RestController
+@RequestMapping
+@RequiredArgsConstructor
+public class UserController implements BaseController {
+
+    private static final String TEXT_CSV_VALUE = "text/csv";
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType(TEXT_CSV_VALUE);
+    private static final String INCLUDE_ACTIVITY = "activity";
+
+    private final UserComponent userComponent;
+
+    @PostMapping(path = "/v1/users")
+    public Mono<Response<UserResponse>> createUser(@Valid @RequestBody CreateUserRequest request) {
+        Mono<UserResponse> userResponseMono = userComponent.createUser(request);
+        return success(userResponseMono);
+    }
+
+    @PostMapping(path = "/v1/users:batch")
+    public Mono<Response<List<BatchItemResponse>>> createUsers(@RequestBody List<CreateUserRequest> requests) {
+        Mono<List<BatchItemResponse>> itemsMono = userComponent.createUsers(requests);
+        return success(itemsMono);
+    }
+
+    @PostMapping(path = "/v1/users:import",
+            consumes = {MediaType.APPLICATION_NDJSON_VALUE, TEXT_CSV_VALUE},
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<ImportProgressResponse> importUsers(@RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+                                                    @RequestBody Flux<DataBuffer> body) {
+        return userComponent.importUsers(body, TEXT_CSV.isCompatibleWith(contentType));
+    }
+
+    @PatchMapping(path = "/v1/users:batch")
+    public Mono<Response<List<BatchItemResponse>>> updateUsers(@RequestBody List<BatchUpdateUserRequest> requests) {
+        Mono<List<BatchItemResponse>> itemsMono = userComponent.updateUsers(requests);
+        return success(itemsMono);
+    }
+
+    @DeleteMapping(path = "/v1/users:batch")
+    public Mono<Response<List<BatchItemResponse>>> deleteUsers(@RequestBody List<Long> ids) {
+        Mono<List<BatchItemResponse>> itemsMono = userComponent.deleteUsers(ids);
+        return success(itemsMono);
+    }
+
+    @PatchMapping(path = "/v1/users/{id}")
+    public Mono<Response<UserResponse>> updateUser(@PathVariable Long id,
+                                                   @Valid @RequestBody UpdateUserRequest request) {
+        Mono<UserResponse> userResponseMono = userComponent.updateUser(id, request);
+        return success(userResponseMono);
+    }
+
+    @GetMapping(path = "/v1/users/{id}")
+    public Mono<Response<UserResponse>> getUser(@PathVariable Long id) {
+        Mono<UserResponse> userResponseMono = userComponent.getUser(id);
+        return success(userResponseMono);
+    }
+
+    @GetMapping(path = "/v1/users")
+    public Mono<Response<CustomPage<UserShortResponse>>> getUserList(@RequestParam(required = false, defaultValue = "1") Integer page,
+                                                                     @RequestParam(required = false, defaultValue = "10") Integer size,
+                                                                     @RequestParam(required = false) String after,
+                                                                     @RequestParam(required = false, defaultValue = "true") Boolean count,
+                                                                     @RequestParam(required = false, defaultValue = "") Set<String> include) {
+        Mono<CustomPage<UserShortResponse>> pageMono;
+        if (after != null) {
+            pageMono = userComponent.getUserListAfter(after, size);
+        } else {
+            PageRequest pageRequest = PageRequest.of(page, size);
+            pageMono = count
+                    ? userComponent.getUserList(pageRequest)
+                    : userComponent.getUserListWithoutCount(pageRequest);
+        }
+        if (include.contains(INCLUDE_ACTIVITY)) {
+            pageMono = pageMono.flatMap(userComponent::includeActivity);
+        }
+        return success(pageMono);
+    }
+
+    @GetMapping(path = "/v1/users/stream", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public Flux<UserResponse> streamUsers() {
+        return userComponent.streamUsers();
+    }
+
+    @DeleteMapping(path = "/v1/users/{id}")
+    public Mono<Response<Void>> deleteUser(@PathVariable Long id) {
+        return userComponent.deleteUser(id)
+                .then(success());
+    }
+
+    @PostMapping(path = "/v1/users/{id}/generate-rsa")
+    public Mono<Response<String>> generateRSA(@PathVariable Long id,
+                                              @RequestParam(required = false, defaultValue = "rsa-2048") String algorithm) {
+        Mono<String> rsa = userComponent.generateRSA(id, algorithm);
+        return success(rsa);
+    }
+
+    @PostMapping(path = "/v1/users:generate-keys", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<GeneratedKeyResponse> generateKeys(@RequestBody List<Long> ids,
+                                                   @RequestParam(required = false, defaultValue = "rsa-2048") String algorithm) {
+        return userComponent.generateKeys(ids, algorithm);
+    }
+
+}
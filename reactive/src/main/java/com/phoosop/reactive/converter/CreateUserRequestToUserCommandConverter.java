@@ -18,12 +18,12 @@ public abstract class CreateUserRequestToUserCommandConverter implements Convert
 
     public UserStatus intToUserStatus(Integer id) {
         return UserStatus.find(id)
-                .orElseThrow(() -> new ServiceException(HttpConstants.FAILED_TO_CONVERT_VALUE_TO_ENUM));
+                .orElseThrow(() -> ServiceException.of(HttpConstants.FAILED_TO_CONVERT_VALUE_TO_ENUM));
     }
 
     public UserType stringToUserType(String id) {
         return UserType.find(id)
-                .orElseThrow(() -> new ServiceException(HttpConstants.FAILED_TO_CONVERT_VALUE_TO_ENUM));
+                .orElseThrow(() -> ServiceException.of(HttpConstants.FAILED_TO_CONVERT_VALUE_TO_ENUM));
     }
 
 }
@@ -7,11 +7,14 @@ import com.phoosop.reactive.model.enums.UserStatus;
 import com.phoosop.reactive.model.enums.UserType;
 import com.phoosop.reactive.model.response.UserResponse;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.springframework.core.convert.converter.Converter;
 
 @Mapper(componentModel = "spring")
 public abstract class UserCommandToUserResponseConverter implements Converter<UserCommand, UserResponse> {
 
+    @Mapping(target = "activity", ignore = true)
+    @Mapping(target = "rawActivity", ignore = true)
     public abstract UserResponse convert(UserCommand source);
 
     public int userStatusToInt(UserStatus userStatus) {
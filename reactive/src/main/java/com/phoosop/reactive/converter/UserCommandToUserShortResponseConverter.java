@@ -5,11 +5,14 @@ import com.phoosop.reactive.model.enums.UserStatus;
 import com.phoosop.reactive.model.enums.UserType;
 import com.phoosop.reactive.model.response.UserShortResponse;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.springframework.core.convert.converter.Converter;
 
 @Mapper(componentModel = "spring")
 public abstract class UserCommandToUserShortResponseConverter implements Converter<UserCommand, UserShortResponse> {
 
+    @Mapping(target = "activity", ignore = true)
+    @Mapping(target = "rawActivity", ignore = true)
     public abstract UserShortResponse convert(UserCommand source);
 
     public int userStatusToInt(UserStatus userStatus) {
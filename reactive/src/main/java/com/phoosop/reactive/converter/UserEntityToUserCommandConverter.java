@@ -18,16 +18,16 @@ public abstract class UserEntityToUserCommandConverter implements Converter<User
 
     public UserStatus intToUserStatus(int id) {
         return UserStatus.find(id)
-                .orElseThrow(() -> new ServiceException(HttpConstants.FAILED_TO_CONVERT_VALUE_TO_ENUM));
+                .orElseThrow(() -> ServiceException.of(HttpConstants.FAILED_TO_CONVERT_VALUE_TO_ENUM));
     }
 
     public UserType stringToUserType(String id) {
         return UserType.find(id)
-                .orElseThrow(() -> new ServiceException(HttpConstants.FAILED_TO_CONVERT_VALUE_TO_ENUM));
+                .orElseThrow(() -> ServiceException.of(HttpConstants.FAILED_TO_CONVERT_VALUE_TO_ENUM));
     }
 
     public UserLevel intToUserLevel(int id) {
         return UserLevel.find(id)
-                .orElseThrow(() -> new ServiceException(HttpConstants.FAILED_TO_CONVERT_VALUE_TO_ENUM));
+                .orElseThrow(() -> ServiceException.of(HttpConstants.FAILED_TO_CONVERT_VALUE_TO_ENUM));
     }
 }
@@ -0,0 +1,16 @@
+package com.phoosop.reactive.converter;
+
+import com.phoosop.reactive.model.entity.UserShortEntity;
+import com.phoosop.reactive.model.response.UserShortResponse;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.springframework.core.convert.converter.Converter;
+
+@Mapper(componentModel = "spring")
+public abstract class UserShortEntityToUserShortResponseConverter implements Converter<UserShortEntity, UserShortResponse> {
+
+    @Mapping(target = "activity", ignore = true)
+    @Mapping(target = "rawActivity", ignore = true)
+    public abstract UserShortResponse convert(UserShortEntity userShortEntity);
+
+}
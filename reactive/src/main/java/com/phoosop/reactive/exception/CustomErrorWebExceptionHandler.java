@@ -11,6 +11,7 @@ import org.springframework.context.ApplicationContext;
 import org.springframework.core.annotation.Order;
 import org.springframework.core.codec.DecodingException;
 import org.springframework.core.convert.ConversionFailedException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.codec.ServerCodecConfigurer;
@@ -67,6 +68,13 @@ public class CustomErrorWebExceptionHandler extends AbstractErrorWebExceptionHan
                     .contentType(MediaType.APPLICATION_JSON)
                     .body(BodyInserters.fromValue(new Response<>(new Status(exception.getStatus()), null)));
 
+        } else if (throwable instanceof TooManyRequestsException exception) {
+            LOG.warn("Rejected {} {}: {}, {}", request.methodName(), request.uri().getPath(), exception.getStatus().getCode(), exception.getStatus().getDesc());
+            return ServerResponse.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(BodyInserters.fromValue(new Response<>(new Status(exception.getStatus()), null)));
+
         } else if (throwable instanceof ValidationException
                 && throwable.getCause() instanceof InvalidRequestException exception) {
             LOG.error("Failed {} {}: {}, {}", request.methodName(), request.uri().getPath(), exception.getStatus().getCode(), exception.getStatus().getDesc());
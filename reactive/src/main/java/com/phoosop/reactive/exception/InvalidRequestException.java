@@ -0,0 +1,33 @@
+package com.phoosop.reactive.exception;
+
+import lombok.Getter;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import static com.phoosop.reactive.exception.StatusConstants.HttpConstants;
+
+
+@Getter
+public class InvalidRequestException extends RuntimeException {
+
+    private static final Map<HttpConstants, InvalidRequestException> INSTANCES = new EnumMap<>(HttpConstants.class);
+
+    static {
+        for (HttpConstants status : HttpConstants.values()) {
+            INSTANCES.put(status, new InvalidRequestException(status));
+        }
+    }
+
+    private final HttpConstants status;
+
+    private InvalidRequestException(HttpConstants status) {
+        super(status.getDesc(), null, false, false);
+        this.status = status;
+    }
+
+    public static InvalidRequestException of(HttpConstants status) {
+        return INSTANCES.get(status);
+    }
+
+}
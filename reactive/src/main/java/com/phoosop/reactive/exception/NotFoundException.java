@@ -0,0 +1,33 @@
+package com.phoosop.reactive.exception;
+
+import lombok.Getter;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import static com.phoosop.reactive.exception.StatusConstants.HttpConstants;
+
+
+@Getter
+public class NotFoundException extends RuntimeException {
+
+    private static final Map<HttpConstants, NotFoundException> INSTANCES = new EnumMap<>(HttpConstants.class);
+
+    static {
+        for (HttpConstants status : HttpConstants.values()) {
+            INSTANCES.put(status, new NotFoundException(status));
+        }
+    }
+
+    private final HttpConstants status;
+
+    private NotFoundException(HttpConstants status) {
+        super(status.getDesc(), null, false, false);
+        this.status = status;
+    }
+
+    public static NotFoundException of(HttpConstants status) {
+        return INSTANCES.get(status);
+    }
+
+}
@@ -0,0 +1,45 @@
+package com.phoosop.reactive.exception;
+
+import lombok.Getter;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import static com.phoosop.reactive.exception.StatusConstants.HttpConstants;
+
+
+/**
+ * Service errors only carry a status, the stack trace of where it was raised adds nothing to the error response but
+ * is the most expensive part of creating the exception. They are created without one, and without suppressed
+ * exceptions, so a single instance per status can be shared: use {@link #of(HttpConstants)}.
+ * {@link InvalidRequestException}, {@link NotFoundException} and {@link TooManyRequestsException} work the same way.
+ */
+@Getter
+public class ServiceException extends RuntimeException {
+
+    private static final Map<HttpConstants, ServiceException> INSTANCES = new EnumMap<>(HttpConstants.class);
+
+    static {
+        for (HttpConstants status : HttpConstants.values()) {
+            INSTANCES.put(status, new ServiceException(status));
+        }
+    }
+
+    private final HttpConstants status;
+    private final String text;
+
+    private ServiceException(HttpConstants status) {
+        this(null, status);
+    }
+
+    public ServiceException(String text, HttpConstants status) {
+        super(status.getDesc(), null, false, false);
+        this.status = status;
+        this.text = text;
+    }
+
+    public static ServiceException of(HttpConstants status) {
+        return INSTANCES.get(status);
+    }
+
+}
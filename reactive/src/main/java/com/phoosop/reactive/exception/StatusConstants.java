@@ -39,7 +39,13 @@ public class StatusConstants {
         AGE_IS_INVALID("TEMP31351", "age is invalid"),
         USER_ID_IS_REQUIRED("TEMP31352", "user_id is required"),
         PASSED_VERIFICATION_TYPE_IS_REQUIRED("TEMP31353", "passed_verification_type is required"),
+        CURSOR_IS_INVALID("TEMP31354", "cursor is invalid"),
+        BATCH_SIZE_IS_INVALID("TEMP31355", "batch size is invalid"),
+        RECORD_IS_INVALID("TEMP31356", "record is invalid"),
+        ACTIVITY_SERVICE_IS_UNAVAILABLE("TEMP31357", "Activity service is unavailable"),
+        KEY_ALGORITHM_IS_INVALID("TEMP31358", "algorithm is invalid"),
 
+        TOO_MANY_REQUESTS("TEMP31993", "Too many requests"),
         METHOD_NOT_ALLOWED("TEMP31994", "Method not allowed"),
         JSON_DECODING_ERROR("TEMP31995", "JSON Decoding error"),
         NO_MATCHING_HANDLER("TEMP31996", "No matching handler"),
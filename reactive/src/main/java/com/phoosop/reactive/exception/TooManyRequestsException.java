@@ -0,0 +1,33 @@
+package com.phoosop.reactive.exception;
+
+import lombok.Getter;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import static com.phoosop.reactive.exception.StatusConstants.HttpConstants;
+
+
+@Getter
+public class TooManyRequestsException extends RuntimeException {
+
+    private static final Map<HttpConstants, TooManyRequestsException> INSTANCES = new EnumMap<>(HttpConstants.class);
+
+    static {
+        for (HttpConstants status : HttpConstants.values()) {
+            INSTANCES.put(status, new TooManyRequestsException(status));
+        }
+    }
+
+    private final HttpConstants status;
+
+    private TooManyRequestsException(HttpConstants status) {
+        super(status.getDesc(), null, false, false);
+        this.status = status;
+    }
+
+    public static TooManyRequestsException of(HttpConstants status) {
+        return INSTANCES.get(status);
+    }
+
+}
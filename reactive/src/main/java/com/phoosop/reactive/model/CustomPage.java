@@ -0,0 +1,56 @@
+package com.phoosop.reactive.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@Accessors(chain = true)
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public class CustomPage<T> {
+
+    private List<T> content;
+
+    private int number;
+
+    private int size;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long totalElements;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
+
+    public CustomPage(List<T> content, int number, int size, long totalElements) {
+        this.content = content;
+        this.number = number;
+        this.size = size;
+        this.totalElements = totalElements;
+    }
+
+    public CustomPage<T> setTotalElements(long totalElements) {
+        this.totalElements = totalElements;
+        return this;
+    }
+
+    public <U> CustomPage<U> map(Function<? super T, ? extends U> converter) {
+        CustomPage<U> page = new CustomPage<U>()
+                .setContent(this.content.stream().map(converter).collect(Collectors.toList()))
+                .setNumber(this.number)
+                .setSize(this.size)
+                .setNextCursor(this.nextCursor);
+        page.totalElements = this.totalElements;
+        return page;
+    }
+
+}
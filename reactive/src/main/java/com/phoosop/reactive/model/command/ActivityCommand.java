@@ -1,5 +1,6 @@
 package com.phoosop.reactive.model.command;
 
+import com.fasterxml.jackson.databind.util.RawValue;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -25,4 +26,6 @@ public class ActivityCommand {
 
     public Double accessibility;
 
+    public RawValue raw;
+
 }
@@ -0,0 +1,29 @@
+package com.phoosop.reactive.model.enums;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+@Getter
+@AllArgsConstructor
+public enum KeyAlgorithm implements BaseEnum {
+
+    RSA_2048("rsa-2048"),
+
+    RSA_3072("rsa-3072"),
+
+    EC_P256("ec-p256"),
+
+    ED25519("ed25519");
+
+    private final String value;
+
+    public static Optional<KeyAlgorithm> find(String value) {
+        return Arrays.stream(values())
+                .filter(item -> item.getValue().equals(value))
+                .findFirst();
+    }
+
+}
@@ -0,0 +1,24 @@
+package com.phoosop.reactive.model.request;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import com.phoosop.reactive.annotations.Required;
+import com.phoosop.reactive.exception.StatusConstants;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@Accessors(chain = true)
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public class BatchUpdateUserRequest extends UpdateUserRequest {
+
+    @Required(exception = StatusConstants.HttpConstants.USER_ID_IS_REQUIRED)
+    private Long id;
+
+}
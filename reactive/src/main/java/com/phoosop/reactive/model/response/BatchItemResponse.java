@@ -1,8 +1,9 @@
 package com.phoosop.reactive.model.response;
 
-
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import com.phoosop.reactive.model.Status;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -13,18 +14,13 @@ import lombok.experimental.Accessors;
 @NoArgsConstructor
 @Accessors(chain = true)
 @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
-public class UserShortResponse {
-
-    private Long id;
+public class BatchItemResponse {
 
-    private String cardId;
+    private int index;
 
-    private String firstName;
-
-    private String secondName;
-
-    private String type;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long id;
 
-    private Integer status;
+    private Status status;
 
 }
@@ -0,0 +1,29 @@
+package com.phoosop.reactive.model.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import com.phoosop.reactive.model.Status;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@Accessors(chain = true)
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public class GeneratedKeyResponse {
+
+    private int index;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long id;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String privateKey;
+
+    private Status status;
+
+}
@@ -0,0 +1,33 @@
+package com.phoosop.reactive.model.response;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@Accessors(chain = true)
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public class ImportProgressResponse {
+
+    private long processed;
+
+    private long imported;
+
+    private long failed;
+
+    private long elapsedMillis;
+
+    private long recordsPerSecond;
+
+    private boolean done;
+
+    private List<BatchItemResponse> errors;
+
+}
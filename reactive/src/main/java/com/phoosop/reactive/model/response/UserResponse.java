@@ -1,8 +1,10 @@
 package com.phoosop.reactive.model.response;
 
-
+import com.fasterxml.jackson.annotation.JsonGetter;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import com.fasterxml.jackson.databind.util.RawValue;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -33,6 +35,16 @@ public class UserResponse {
 
     private Integer age;
 
+    @JsonIgnore
     private ActivityResponse activity;
 
+    @JsonIgnore
+    private RawValue rawActivity;
+
+    // a passthrough activity is written as the downstream JSON instead of the typed response
+    @JsonGetter("activity")
+    public Object getActivityJson() {
+        return rawActivity != null ? rawActivity : activity;
+    }
+
 }
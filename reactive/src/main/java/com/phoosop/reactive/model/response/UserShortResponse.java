@@ -0,0 +1,46 @@
+package com.phoosop.reactive.model.response;
+
+import com.fasterxml.jackson.annotation.JsonGetter;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import com.fasterxml.jackson.databind.util.RawValue;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@Accessors(chain = true)
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public class UserShortResponse {
+
+    private Long id;
+
+    private String cardId;
+
+    private String firstName;
+
+    private String secondName;
+
+    private String type;
+
+    private Integer status;
+
+    @JsonIgnore
+    private ActivityResponse activity;
+
+    @JsonIgnore
+    private RawValue rawActivity;
+
+    // only present when the page was requested with include=activity
+    @JsonGetter("activity")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public Object getActivityJson() {
+        return rawActivity != null ? rawActivity : activity;
+    }
+
+}
@@ -0,0 +1,42 @@
+package com.phoosop.reactive.repository;
+
+import com.phoosop.reactive.model.entity.UserEntity;
+import com.phoosop.reactive.model.entity.UserShortEntity;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.repository.reactive.ReactiveSortingRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+public interface UserRepository extends ReactiveSortingRepository<UserEntity, Long>, UserRepositoryCustom {
+
+    @Query("SELECT id, card_id, first_name, second_name, type, status FROM user ORDER BY id DESC LIMIT :skip,:limit")
+    Flux<UserShortEntity> findAll(@Param("skip") int page, @Param("limit") int limit);
+
+    @Query("SELECT id, card_id, first_name, second_name, type, status FROM user WHERE id < :lastId ORDER BY id DESC LIMIT :limit")
+    Flux<UserShortEntity> findAllAfter(@Param("lastId") long lastId, @Param("limit") int limit);
+
+    @Query("SELECT * FROM user WHERE id IN (:ids)")
+    Flux<UserEntity> findAllByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT id FROM user WHERE id IN (:ids) FOR UPDATE")
+    Flux<Long> findIdsByIdInForUpdate(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT * FROM user ORDER BY id")
+    Flux<UserEntity> streamAll();
+
+    @Query("SELECT count(id) FROM user")
+    Mono<Long> count();
+
+    @Modifying
+    @Query("DELETE FROM user WHERE id = :id")
+    Mono<Integer> deleteById(@Param("id") long id);
+
+    @Modifying
+    @Query("DELETE FROM user WHERE id IN (:ids)")
+    Mono<Integer> deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+
+}
@@ -0,0 +1,18 @@
+package com.phoosop.reactive.repository;
+
+import com.phoosop.reactive.model.entity.UserEntity;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+public interface UserRepositoryCustom {
+
+    Mono<Integer> update(long id, Map<String, Object> properties);
+
+    Flux<Long> insertAll(List<UserEntity> userEntities);
+
+    Mono<Map<Long, Integer>> updateAll(Map<Long, Map<String, Object>> updates);
+
+}
@@ -0,0 +1,117 @@
+package com.phoosop.reactive.repository;
+
+import com.phoosop.reactive.model.entity.UserEntity;
+import io.r2dbc.spi.Result;
+import io.r2dbc.spi.Statement;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.r2dbc.dialect.DialectResolver;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Query;
+import org.springframework.data.relational.core.query.Update;
+import org.springframework.data.relational.core.sql.IdentifierProcessing;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+    private static final String INSERT = "INSERT INTO user (card_id, first_name, second_name, type, status, level, date_of_birth, age) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final R2dbcEntityTemplate r2dbcEntityTemplate;
+    private final RelationalPersistentEntity<?> userEntity;
+    private final IdentifierProcessing identifierProcessing;
+
+    public UserRepositoryCustomImpl(R2dbcEntityTemplate r2dbcEntityTemplate) {
+        this.r2dbcEntityTemplate = r2dbcEntityTemplate;
+        this.userEntity = r2dbcEntityTemplate.getConverter().getMappingContext().getRequiredPersistentEntity(UserEntity.class);
+        this.identifierProcessing = DialectResolver.getDialect(r2dbcEntityTemplate.getDatabaseClient().getConnectionFactory())
+                .getIdentifierProcessing();
+    }
+
+    @Override
+    public Mono<Integer> update(long id, Map<String, Object> properties) {
+        Map<SqlIdentifier, Object> assignments = new LinkedHashMap<>();
+        properties.forEach((property, value) -> assignments.put(SqlIdentifier.unquoted(property), value));
+        return r2dbcEntityTemplate.update(UserEntity.class)
+                .matching(Query.query(Criteria.where("id").is(id)))
+                .apply(Update.from(assignments));
+    }
+
+    @Override
+    public Flux<Long> insertAll(List<UserEntity> userEntities) {
+        // one prepared statement with a binding per row: every binding yields its own generated id, in order
+        return r2dbcEntityTemplate.getDatabaseClient().inConnectionMany(connection -> {
+            Statement statement = connection.createStatement(INSERT);
+            for (int i = 0; i < userEntities.size(); i++) {
+                if (i > 0) {
+                    statement.add();
+                }
+                bind(statement, userEntities.get(i));
+            }
+            return Flux.from(statement.returnGeneratedValues("id").execute())
+                    .concatMap(result -> result.map((row, rowMetadata) -> row.get("id", Long.class)));
+        });
+    }
+
+    @Override
+    public Mono<Map<Long, Integer>> updateAll(Map<Long, Map<String, Object>> updates) {
+        // updates setting the same properties share one prepared statement with a binding per user, all statements
+        // run one after another on a single connection
+        Map<List<String>, List<Long>> byProperties = updates.entrySet().stream()
+                .collect(Collectors.groupingBy(entry -> List.copyOf(entry.getValue().keySet()), LinkedHashMap::new,
+                        Collectors.mapping(Map.Entry::getKey, Collectors.toList())));
+        return r2dbcEntityTemplate.getDatabaseClient().inConnection(connection -> Flux.fromIterable(byProperties.entrySet())
+                .concatMap(group -> {
+                    List<String> properties = group.getKey();
+                    List<Long> ids = group.getValue();
+                    Statement statement = connection.createStatement(updateSql(properties));
+                    for (int i = 0; i < ids.size(); i++) {
+                        if (i > 0) {
+                            statement.add();
+                        }
+                        Map<String, Object> values = updates.get(ids.get(i));
+                        for (int j = 0; j < properties.size(); j++) {
+                            statement.bind(j, values.get(properties.get(j)));
+                        }
+                        statement.bind(properties.size(), ids.get(i));
+                    }
+                    return Flux.zip(Flux.fromIterable(ids), Flux.from(statement.execute()).concatMap(Result::getRowsUpdated));
+                })
+                .collectMap(Tuple2::getT1, Tuple2::getT2, LinkedHashMap::new));
+    }
+
+    private String updateSql(List<String> properties) {
+        String assignments = properties.stream()
+                .map(property -> userEntity.getRequiredPersistentProperty(property).getColumnName().toSql(identifierProcessing) + " = ?")
+                .collect(Collectors.joining(", "));
+        return "UPDATE user SET " + assignments + " WHERE id = ?";
+    }
+
+    private void bind(Statement statement, UserEntity userEntity) {
+        bind(statement, 0, userEntity.getCardId(), String.class);
+        bind(statement, 1, userEntity.getFirstName(), String.class);
+        bind(statement, 2, userEntity.getSecondName(), String.class);
+        bind(statement, 3, userEntity.getType(), String.class);
+        bind(statement, 4, userEntity.getStatus(), Integer.class);
+        bind(statement, 5, userEntity.getLevel(), Integer.class);
+        bind(statement, 6, userEntity.getDateOfBirth(), String.class);
+        bind(statement, 7, userEntity.getAge(), Integer.class);
+    }
+
+    private void bind(Statement statement, int index, Object value, Class<?> type) {
+        if (value == null) {
+            statement.bindNull(index, type);
+        } else {
+            statement.bind(index, value);
+        }
+    }
+
+}
@@ -0,0 +1,99 @@
+package com.phoosop.reactive.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Supplier;
+
+/**
+ * Bounded pool of values loaded ahead of time. Once the pool drops below the low watermark, a background fill
+ * loads it up to the high watermark. Fills run on a timer and after a take, one at a time. Publishes
+ * {@code <name>.size} and {@code <name>.requests} tagged with {@code result=hit|miss}.
+ */
+public class PrefetchPool<T> implements Disposable {
+
+    private final Logger LOG = LoggerFactory.getLogger(PrefetchPool.class);
+
+    private final String name;
+    private final int lowWatermark;
+    private final int concurrency;
+
+    private final BlockingQueue<T> pool;
+    private final Sinks.Many<Long> refills = Sinks.many().multicast().directBestEffort();
+    private final Counter hits;
+    private final Counter misses;
+    private Disposable producer;
+
+    public PrefetchPool(String name, int lowWatermark, int highWatermark, int concurrency, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.lowWatermark = lowWatermark;
+        this.concurrency = concurrency;
+        this.pool = new ArrayBlockingQueue<>(highWatermark);
+        this.hits = requests(meterRegistry, "hit");
+        this.misses = requests(meterRegistry, "miss");
+        Gauge.builder(name + ".size", pool, BlockingQueue::size)
+                .register(meterRegistry);
+    }
+
+    public T poll() {
+        T value = pool.poll();
+        if (value == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        if (pool.size() < lowWatermark) {
+            refills.tryEmitNext(0L);
+        }
+        return value;
+    }
+
+    public void start(Supplier<Mono<T>> loader, Duration refillInterval) {
+        // ticks and take signals that arrive while a fill is running are dropped, so there is one fill at a time
+        producer = Flux.merge(Flux.interval(Duration.ZERO, refillInterval), refills.asFlux())
+                .onBackpressureDrop()
+                .filter(tick -> pool.size() < lowWatermark)
+                .concatMap(tick -> fill(loader), 1)
+                .subscribe();
+    }
+
+    @Override
+    public void dispose() {
+        if (producer != null) {
+            producer.dispose();
+        }
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return producer == null || producer.isDisposed();
+    }
+
+    private Mono<Void> fill(Supplier<Mono<T>> loader) {
+        return Flux.range(0, pool.remainingCapacity())
+                .flatMap(i -> loader.get(), concurrency)
+                .doOnNext(pool::offer)
+                .then()
+                .onErrorResume(throwable -> {
+                    LOG.warn("Failed to refill {}: {}", name, throwable.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private Counter requests(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(name + ".requests")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+}
@@ -0,0 +1,105 @@
+package com.phoosop.reactive.service.crypto;
+
+import com.phoosop.reactive.config.CryptoProperties;
+import com.phoosop.reactive.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.phoosop.reactive.exception.StatusConstants.HttpConstants;
+
+@Service
+public class CryptoExecutorService implements DisposableBean {
+
+    private final ThreadPoolExecutor executor;
+    private final Timer wait;
+    private final Timer execution;
+    private final Counter rejected;
+
+    public CryptoExecutorService(CryptoProperties cryptoProperties, MeterRegistry meterRegistry) {
+        CryptoProperties.Executor properties = cryptoProperties.getExecutor();
+        int threads = properties.getThreads() > 0 ? properties.getThreads() : Runtime.getRuntime().availableProcessors();
+        // one thread per core keeps CPU-bound work from oversubscribing the event loops, a full queue fails fast
+        // instead of letting the wait grow
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueSize()), threadFactory(), new ThreadPoolExecutor.AbortPolicy());
+        this.wait = Timer.builder("crypto.executor.wait")
+                .description("Time a task spent in the queue before a thread picked it up")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.execution = Timer.builder("crypto.executor.execution")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.rejected = Counter.builder("crypto.executor.rejected")
+                .register(meterRegistry);
+        Gauge.builder("crypto.executor.queue.size", executor, e -> e.getQueue().size())
+                .register(meterRegistry);
+        Gauge.builder("crypto.executor.active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+    }
+
+    public int getParallelism() {
+        return executor.getMaximumPoolSize();
+    }
+
+    public <T> Mono<T> execute(Callable<T> task) {
+        return Mono.create(sink -> {
+            long submitted = System.nanoTime();
+            FutureTask<Void> future = new FutureTask<>(() -> {
+                long started = System.nanoTime();
+                wait.record(started - submitted, TimeUnit.NANOSECONDS);
+                // the timer is recorded before the result is signalled, so a caller sees it once it has the result
+                T result;
+                try {
+                    result = task.call();
+                } catch (Throwable throwable) {
+                    execution.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+                    sink.error(throwable);
+                    return;
+                }
+                execution.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+                sink.success(result);
+            }, null);
+            try {
+                executor.execute(future);
+            } catch (RejectedExecutionException e) {
+                rejected.increment();
+                sink.error(TooManyRequestsException.of(HttpConstants.TOO_MANY_REQUESTS));
+                return;
+            }
+            // a cancelled request gives its queue slot back right away
+            sink.onCancel(() -> {
+                future.cancel(false);
+                executor.remove(future);
+            });
+        });
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private static ThreadFactory threadFactory() {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "crypto-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+}
@@ -0,0 +1,25 @@
+package com.phoosop.reactive.service.crypto;
+
+import com.phoosop.reactive.model.enums.KeyAlgorithm;
+import com.phoosop.reactive.util.CryptoUtils;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.spec.AlgorithmParameterSpec;
+
+@Getter
+@RequiredArgsConstructor
+public class JcaKeyGenerationStrategy implements KeyGenerationStrategy {
+
+    private final KeyAlgorithm algorithm;
+    private final String jcaAlgorithm;
+    private final AlgorithmParameterSpec parameters;
+
+    @Override
+    public KeyPair generate() throws GeneralSecurityException {
+        return CryptoUtils.generateKeyPair(jcaAlgorithm, parameters);
+    }
+
+}
@@ -0,0 +1,32 @@
+package com.phoosop.reactive.service.crypto;
+
+import com.phoosop.reactive.exception.InvalidRequestException;
+import com.phoosop.reactive.model.enums.KeyAlgorithm;
+import org.springframework.stereotype.Service;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.phoosop.reactive.exception.StatusConstants.HttpConstants;
+
+@Service
+public class KeyGenerationService {
+
+    private final Map<KeyAlgorithm, KeyGenerationStrategy> strategies = new EnumMap<>(KeyAlgorithm.class);
+
+    public KeyGenerationService(List<KeyGenerationStrategy> keyGenerationStrategies) {
+        keyGenerationStrategies.forEach(strategy -> strategies.put(strategy.getAlgorithm(), strategy));
+    }
+
+    public KeyPair generate(KeyAlgorithm algorithm) throws GeneralSecurityException {
+        KeyGenerationStrategy strategy = strategies.get(algorithm);
+        if (strategy == null) {
+            throw InvalidRequestException.of(HttpConstants.KEY_ALGORITHM_IS_INVALID);
+        }
+        return strategy.generate();
+    }
+
+}
@@ -0,0 +1,18 @@
+package com.phoosop.reactive.service.crypto;
+
+import com.phoosop.reactive.model.enums.KeyAlgorithm;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+
+/**
+ * Generates key pairs for one {@link KeyAlgorithm}. Every strategy bean is picked up by {@link KeyGenerationService},
+ * so a new algorithm or provider is added by declaring another bean.
+ */
+public interface KeyGenerationStrategy {
+
+    KeyAlgorithm getAlgorithm();
+
+    KeyPair generate() throws GeneralSecurityException;
+
+}
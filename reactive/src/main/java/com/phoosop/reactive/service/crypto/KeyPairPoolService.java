@@ -0,0 +1,76 @@
+package com.phoosop.reactive.service.crypto;
+
+import com.phoosop.reactive.config.CryptoProperties;
+import com.phoosop.reactive.model.enums.KeyAlgorithm;
+import com.phoosop.reactive.service.PrefetchPool;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.time.Duration;
+
+@Service
+public class KeyPairPoolService implements InitializingBean, DisposableBean {
+
+    private final CryptoProperties.KeyPool properties;
+    private final KeyGenerationService keyGenerationService;
+    private final MeterRegistry meterRegistry;
+
+    private final PrefetchPool<KeyPair> pool;
+    private final Timer generation;
+    private Scheduler scheduler;
+
+    public KeyPairPoolService(CryptoProperties cryptoProperties, KeyGenerationService keyGenerationService, MeterRegistry meterRegistry) {
+        this.properties = cryptoProperties.getKeyPool();
+        this.keyGenerationService = keyGenerationService;
+        this.meterRegistry = meterRegistry;
+        // the worker only wakes up below the low watermark and then fills up to the high one, so takes in between
+        // don't cause a generation each
+        this.pool = new PrefetchPool<>("crypto.key.pool", properties.getLowWatermark(), properties.getHighWatermark(),
+                properties.getThreads(), meterRegistry);
+        this.generation = Timer.builder("crypto.key.pool.generation")
+                .description("Key pairs generated by the pool worker, the count rate is the refill rate")
+                .register(meterRegistry);
+    }
+
+    public KeyPair poll(KeyAlgorithm algorithm) {
+        // only the slow default algorithm is pooled, the others are cheap enough to generate per request
+        if (!properties.getEnabled() || algorithm != properties.getAlgorithm()) {
+            return null;
+        }
+        return pool.poll();
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!properties.getEnabled()) {
+            return;
+        }
+        // key generation reads the OS entropy source, which may block, so the workers are not non-blocking threads
+        scheduler = Schedulers.newBoundedElastic(properties.getThreads(), Schedulers.DEFAULT_BOUNDED_ELASTIC_QUEUESIZE, "key-pool");
+        pool.start(() -> Mono.fromCallable(this::generate).subscribeOn(scheduler), Duration.ofMillis(properties.getRefillInterval()));
+    }
+
+    @Override
+    public void destroy() {
+        pool.dispose();
+        if (scheduler != null) {
+            scheduler.dispose();
+        }
+    }
+
+    private KeyPair generate() throws GeneralSecurityException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        KeyPair keyPair = keyGenerationService.generate(properties.getAlgorithm());
+        sample.stop(generation);
+        return keyPair;
+    }
+
+}
@@ -0,0 +1,40 @@
+package com.phoosop.reactive.service.persistence;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.phoosop.reactive.config.UserProperties;
+import com.phoosop.reactive.model.entity.UserEntity;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+@Service
+public class UserCacheService {
+
+    private final AsyncCache<Long, UserEntity> cache;
+
+    public UserCacheService(UserProperties userProperties, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(userProperties.getCache().getMaximumSize())
+                .expireAfterWrite(Duration.ofSeconds(userProperties.getCache().getExpireAfterWrite()))
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "users");
+    }
+
+    public Mono<UserEntity> get(long id, Function<Long, Mono<UserEntity>> loader) {
+        // concurrent misses for the same id share one load, an empty result is not cached
+        return Mono.defer(() -> Mono.fromFuture(cache.get(id, (key, executor) -> loader.apply(key).toFuture())
+                // a dependent stage, so a cancelled caller does not cancel the load shared with the others
+                .thenApply(Function.identity())));
+    }
+
+    public void invalidate(long id) {
+        cache.synchronous().invalidate(id);
+    }
+
+}
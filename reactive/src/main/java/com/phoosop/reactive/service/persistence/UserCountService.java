@@ -0,0 +1,107 @@
+package com.phoosop.reactive.service.persistence;
+
+import com.phoosop.reactive.config.UserProperties;
+import com.phoosop.reactive.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Service
+@RequiredArgsConstructor
+public class UserCountService implements InitializingBean, DisposableBean {
+
+    private static final long NOT_LOADED = Long.MIN_VALUE;
+
+    private final Logger LOG = LoggerFactory.getLogger(UserCountService.class);
+
+    private final UserRepository userRepository;
+    private final UserProperties userProperties;
+
+    // the count is the database count at the last reconcile plus every adjustment since, so an adjustment never
+    // races with a reconcile writing the total
+    private final AtomicLong base = new AtomicLong(NOT_LOADED);
+    private final AtomicLong adjustments = new AtomicLong();
+    private final AtomicReference<Mono<Long>> inFlight = new AtomicReference<>();
+    private Disposable reconciliation;
+
+    public Mono<Long> count() {
+        long value = base.get();
+        if (value != NOT_LOADED) {
+            return Mono.just(value + adjustments.get());
+        }
+        return reconcile();
+    }
+
+    public void increment() {
+        adjust(1);
+    }
+
+    public void decrement() {
+        adjust(-1);
+    }
+
+    public Mono<Long> reconcile() {
+        Mono<Long> current = inFlight.get();
+        if (current != null) {
+            return current;
+        }
+        Mono<Long> query = Mono.defer(() -> {
+                    long adjustmentsBefore = adjustments.get();
+                    return userRepository.count()
+                            .doOnNext(dbCount -> {
+                                // the database took its snapshot somewhere while the query ran, so writes adjusted in
+                                // between may or may not be in dbCount. Splitting them keeps the error within half
+                                // the writes overlapping one query, and the next reconcile replaces it, nothing
+                                // accumulates
+                                long adjustmentsAfter = adjustments.get();
+                                base.set(dbCount - (adjustmentsBefore + adjustmentsAfter) / 2);
+                                if (adjustmentsAfter != adjustmentsBefore) {
+                                    LOG.debug("Reconciled user count with {} adjustments during the query",
+                                            adjustmentsAfter - adjustmentsBefore);
+                                }
+                            })
+                            .map(dbCount -> base.get() + adjustments.get());
+                })
+                .doFinally(signalType -> inFlight.set(null))
+                .cache();
+        if (inFlight.compareAndSet(null, query)) {
+            return query;
+        }
+        return reconcile();
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        Duration interval = Duration.ofSeconds(userProperties.getCount().getReconcileInterval());
+        reconciliation = Flux.interval(interval, interval)
+                .onBackpressureDrop()
+                .concatMap(tick -> reconcile()
+                        .onErrorResume(throwable -> {
+                            LOG.warn("Failed to reconcile user count: {}", throwable.getMessage());
+                            return Mono.empty();
+                        }))
+                .subscribe();
+    }
+
+    @Override
+    public void destroy() {
+        if (reconciliation != null) {
+            reconciliation.dispose();
+        }
+    }
+
+    private void adjust(long delta) {
+        adjustments.addAndGet(delta);
+    }
+
+}
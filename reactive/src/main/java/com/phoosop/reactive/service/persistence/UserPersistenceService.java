@@ -0,0 +1,201 @@
+package com.phoosop.reactive.service.persistence;
+
+import com.phoosop.reactive.model.CustomPage;
+import com.phoosop.reactive.model.command.UserCommand;
+import com.phoosop.reactive.model.entity.UserEntity;
+import com.phoosop.reactive.model.entity.UserShortEntity;
+import com.phoosop.reactive.repository.UserRepository;
+import com.phoosop.reactive.util.CursorUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class UserPersistenceService {
+
+    private final UserRepository userRepository;
+    private final UserCountService userCountService;
+    private final UserCacheService userCacheService;
+    private final UserReadBatchService userReadBatchService;
+    private final UserWriteBatchService userWriteBatchService;
+    private final ConversionService conversionService;
+    private final TransactionalOperator transactionalOperator;
+
+    public Mono<UserCommand> save(UserCommand userCommand) {
+        boolean isNew = userCommand.getId() == null;
+        UserEntity userEntity = conversionService.convert(userCommand, UserEntity.class);
+        Mono<Long> saved = isNew && userWriteBatchService.isEnabled()
+                ? userWriteBatchService.insert(userEntity)
+                : userRepository.save(userEntity).map(UserEntity::getId);
+        return saved
+                .map(id -> {
+                    if (isNew) {
+                        userCountService.increment();
+                    } else {
+                        userCacheService.invalidate(id);
+                    }
+                    userCommand.setId(id);
+                    return userCommand;
+                });
+    }
+
+    public Mono<List<UserCommand>> saveAll(List<UserCommand> userCommands) {
+        List<UserEntity> userEntities = userCommands.stream()
+                .map(userCommand -> conversionService.convert(userCommand, UserEntity.class))
+                .collect(Collectors.toList());
+        return transactionalOperator.transactional(userRepository.insertAll(userEntities).collectList())
+                .map(ids -> {
+                    for (int i = 0; i < userCommands.size(); i++) {
+                        userCommands.get(i).setId(ids.get(i));
+                        userCountService.increment();
+                    }
+                    return userCommands;
+                });
+    }
+
+    public Mono<List<Boolean>> updateAll(List<UserCommand> changes) {
+        // every item sets its own columns, so the updates run one by one on the transaction's connection
+        Mono<List<Boolean>> updated = Flux.fromIterable(changes)
+                .concatMap(item -> {
+                    Map<String, Object> properties = properties(item);
+                    if (properties.isEmpty()) {
+                        return userRepository.existsById(item.getId());
+                    }
+                    return userRepository.update(item.getId(), properties)
+                            .map(rows -> rows > 0);
+                })
+                .collectList();
+        return transactionalOperator.transactional(updated)
+                .doOnNext(list -> changes.forEach(item -> userCacheService.invalidate(item.getId())));
+    }
+
+    public Mono<List<Long>> deleteAll(List<Long> ids) {
+        List<Long> distinctIds = ids.stream().distinct().collect(Collectors.toList());
+        Mono<List<Long>> deleted = userRepository.findIdsByIdInForUpdate(distinctIds)
+                .collectList()
+                .flatMap(existing -> existing.isEmpty()
+                        ? Mono.just(existing)
+                        : userRepository.deleteAllByIdIn(existing).thenReturn(existing));
+        return transactionalOperator.transactional(deleted)
+                .doOnNext(existing -> {
+                    distinctIds.forEach(userCacheService::invalidate);
+                    existing.forEach(id -> userCountService.decrement());
+                });
+    }
+
+    public Mono<UserCommand> update(long id, UserCommand changes) {
+        Map<String, Object> properties = properties(changes);
+        if (properties.isEmpty()) {
+            return findById(id);
+        }
+        // the driver reports found rows, so zero means there is no such user. MySQL has no UPDATE ... RETURNING,
+        // the updated row is read back through the batched lookup
+        Mono<Integer> updatedMono = userWriteBatchService.isEnabled()
+                ? userWriteBatchService.update(id, properties)
+                : userRepository.update(id, properties);
+        return updatedMono
+                .flatMap(updated -> {
+                    if (updated == 0) {
+                        return Mono.empty();
+                    }
+                    userCacheService.invalidate(id);
+                    return findById(id);
+                });
+    }
+
+    public Mono<UserCommand> findById(long id) {
+        return userCacheService.get(id, userReadBatchService::findById)
+                .map(item -> conversionService.convert(item, UserCommand.class));
+    }
+
+    public Mono<CustomPage<UserShortEntity>> findAll(Pageable pageable) {
+        Mono<Long> countMono = userCountService.count();
+        int skip = skip(pageable);
+        Mono<List<UserShortEntity>> userShortEntityFlux = userRepository.findAll(skip, pageable.getPageSize())
+                .collectList();
+
+        return Mono.zip(countMono, userShortEntityFlux, (aLong, list) -> new CustomPage<UserShortEntity>()
+                .setContent(list)
+                .setNumber(pageable.getPageNumber())
+                .setSize(list.size())
+                .setTotalElements(aLong)
+                .setNextCursor(skip + list.size() < aLong ? nextCursor(list) : null));
+    }
+
+    public Mono<CustomPage<UserShortEntity>> findAllWithoutCount(Pageable pageable) {
+        return toPage(userRepository.findAll(skip(pageable), pageable.getPageSize() + 1), pageable.getPageNumber(), pageable.getPageSize());
+    }
+
+    public Mono<CustomPage<UserShortEntity>> findAllAfter(String after, int size) {
+        return Mono.fromCallable(() -> CursorUtils.decode(after))
+                .flatMap(lastId -> toPage(userRepository.findAllAfter(lastId, size + 1), 0, size));
+    }
+
+    public Flux<UserCommand> streamAll() {
+        return userRepository.streamAll()
+                .map(item -> conversionService.convert(item, UserCommand.class));
+    }
+
+    public Mono<Void> delete(long id) {
+        return userRepository.deleteById(id)
+                .doOnNext(deleted -> {
+                    userCacheService.invalidate(id);
+                    if (deleted > 0) {
+                        userCountService.decrement();
+                    }
+                })
+                .then();
+    }
+
+    private Mono<CustomPage<UserShortEntity>> toPage(Flux<UserShortEntity> userShortEntityFlux, int number, int size) {
+        return userShortEntityFlux
+                .collectList()
+                .map(list -> {
+                    boolean hasMore = list.size() > size;
+                    List<UserShortEntity> content = hasMore ? list.subList(0, size) : list;
+                    return new CustomPage<UserShortEntity>()
+                            .setContent(content)
+                            .setNumber(number)
+                            .setSize(content.size())
+                            .setNextCursor(hasMore ? nextCursor(content) : null);
+                });
+    }
+
+    private Map<String, Object> properties(UserCommand changes) {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        putIfNotNull(properties, "cardId", changes.getCardId());
+        putIfNotNull(properties, "firstName", changes.getFirstName());
+        putIfNotNull(properties, "secondName", changes.getSecondName());
+        putIfNotNull(properties, "type", changes.getType() == null ? null : changes.getType().getValue());
+        putIfNotNull(properties, "status", changes.getStatus() == null ? null : changes.getStatus().getValue());
+        putIfNotNull(properties, "level", changes.getLevel() == null ? null : changes.getLevel().getValue());
+        putIfNotNull(properties, "dateOfBirth", changes.getDateOfBirth());
+        putIfNotNull(properties, "age", changes.getAge());
+        return properties;
+    }
+
+    private void putIfNotNull(Map<String, Object> properties, String property, Object value) {
+        if (value != null) {
+            properties.put(property, value);
+        }
+    }
+
+    private int skip(Pageable pageable) {
+        return pageable.getPageNumber() == 1 ? 0 : pageable.getPageNumber() * pageable.getPageSize();
+    }
+
+    private String nextCursor(List<UserShortEntity> list) {
+        return list.isEmpty() ? null : CursorUtils.encode(list.get(list.size() - 1).getId());
+    }
+
+}
@@ -0,0 +1,92 @@
+package com.phoosop.reactive.service.persistence;
+
+import com.phoosop.reactive.config.UserProperties;
+import com.phoosop.reactive.model.entity.UserEntity;
+import com.phoosop.reactive.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class UserReadBatchService implements InitializingBean, DisposableBean {
+
+    private static final Sinks.EmitFailureHandler RETRY_NON_SERIALIZED =
+            (signalType, emitResult) -> emitResult == Sinks.EmitResult.FAIL_NON_SERIALIZED;
+
+    private final Logger LOG = LoggerFactory.getLogger(UserReadBatchService.class);
+
+    private final UserRepository userRepository;
+    private final UserProperties userProperties;
+
+    private final Sinks.Many<Request> requests = Sinks.many().unicast().onBackpressureBuffer();
+    private Disposable processing;
+
+    public Mono<UserEntity> findById(long id) {
+        return Mono.defer(() -> {
+            Request request = new Request(id, Sinks.one());
+            requests.emitNext(request, RETRY_NON_SERIALIZED);
+            return request.result().asMono();
+        });
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        UserProperties.ReadBatch readBatch = userProperties.getReadBatch();
+        processing = requests.asFlux()
+                .bufferTimeout(readBatch.getMaxSize(), Duration.ofMillis(readBatch.getWindow()))
+                .onBackpressureBuffer()
+                .flatMap(this::execute, readBatch.getMaxConcurrency())
+                .subscribe();
+    }
+
+    @Override
+    public void destroy() {
+        if (processing != null) {
+            processing.dispose();
+        }
+    }
+
+    private Mono<Void> execute(List<Request> batch) {
+        List<Long> ids = batch.stream()
+                .map(Request::id)
+                .distinct()
+                .collect(Collectors.toList());
+        return userRepository.findAllByIdIn(ids)
+                .collectMap(UserEntity::getId, Function.identity())
+                .doOnNext(users -> complete(batch, users))
+                .doOnError(throwable -> {
+                    LOG.error("Failed to load users {}: {}", ids, throwable.getMessage());
+                    batch.forEach(request -> request.result().tryEmitError(throwable));
+                })
+                .onErrorResume(throwable -> Mono.empty())
+                .then();
+    }
+
+    private void complete(List<Request> batch, Map<Long, UserEntity> users) {
+        for (Request request : batch) {
+            UserEntity userEntity = users.get(request.id());
+            if (userEntity == null) {
+                request.result().tryEmitEmpty();
+            } else {
+                request.result().tryEmitValue(userEntity);
+            }
+        }
+    }
+
+    private record Request(long id, Sinks.One<UserEntity> result) {
+    }
+
+}
@@ -0,0 +1,137 @@
+package com.phoosop.reactive.service.persistence;
+
+import com.phoosop.reactive.config.UserProperties;
+import com.phoosop.reactive.model.entity.UserEntity;
+import com.phoosop.reactive.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class UserWriteBatchService implements InitializingBean, DisposableBean {
+
+    private static final Sinks.EmitFailureHandler RETRY_NON_SERIALIZED =
+            (signalType, emitResult) -> emitResult == Sinks.EmitResult.FAIL_NON_SERIALIZED;
+
+    private final Logger LOG = LoggerFactory.getLogger(UserWriteBatchService.class);
+
+    private final UserRepository userRepository;
+    private final UserProperties userProperties;
+    private final TransactionalOperator transactionalOperator;
+
+    private final Sinks.Many<PendingInsert> inserts = Sinks.many().unicast().onBackpressureBuffer();
+    private final Sinks.Many<PendingUpdate> updates = Sinks.many().unicast().onBackpressureBuffer();
+    private Disposable processing;
+
+    public boolean isEnabled() {
+        return userProperties.getWriteBatch().getEnabled();
+    }
+
+    public Mono<Long> insert(UserEntity userEntity) {
+        return Mono.defer(() -> {
+            PendingInsert pendingInsert = new PendingInsert(userEntity, Sinks.one());
+            inserts.emitNext(pendingInsert, RETRY_NON_SERIALIZED);
+            return pendingInsert.result().asMono();
+        });
+    }
+
+    public Mono<Integer> update(long id, Map<String, Object> properties) {
+        return Mono.defer(() -> {
+            PendingUpdate pendingUpdate = new PendingUpdate(id, properties, Sinks.one());
+            updates.emitNext(pendingUpdate, RETRY_NON_SERIALIZED);
+            return pendingUpdate.result().asMono();
+        });
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!isEnabled()) {
+            return;
+        }
+        UserProperties.WriteBatch writeBatch = userProperties.getWriteBatch();
+        Duration window = Duration.ofMillis(writeBatch.getWindow());
+        processing = Disposables.composite(
+                inserts.asFlux()
+                        .bufferTimeout(writeBatch.getMaxSize(), window)
+                        .onBackpressureBuffer()
+                        .flatMap(this::executeInserts, writeBatch.getMaxConcurrency())
+                        .subscribe(),
+                updates.asFlux()
+                        .bufferTimeout(writeBatch.getMaxSize(), window)
+                        .onBackpressureBuffer()
+                        .flatMap(this::executeUpdates, writeBatch.getMaxConcurrency())
+                        .subscribe());
+    }
+
+    @Override
+    public void destroy() {
+        if (processing != null) {
+            processing.dispose();
+        }
+    }
+
+    private Mono<Void> executeInserts(List<PendingInsert> batch) {
+        List<UserEntity> userEntities = batch.stream()
+                .map(PendingInsert::userEntity)
+                .collect(Collectors.toList());
+        // the driver runs each binding as its own insert, the transaction makes the window all-or-nothing
+        return transactionalOperator.transactional(userRepository.insertAll(userEntities))
+                .collectList()
+                .doOnNext(ids -> {
+                    for (int i = 0; i < batch.size(); i++) {
+                        batch.get(i).result().tryEmitValue(ids.get(i));
+                    }
+                })
+                .doOnError(throwable -> {
+                    LOG.error("Failed to insert {} users: {}", batch.size(), throwable.getMessage());
+                    batch.forEach(pendingInsert -> pendingInsert.result().tryEmitError(throwable));
+                })
+                .onErrorResume(throwable -> Mono.empty())
+                .then();
+    }
+
+    private Mono<Void> executeUpdates(List<PendingUpdate> batch) {
+        Map<Long, List<PendingUpdate>> byId = batch.stream()
+                .collect(Collectors.groupingBy(PendingUpdate::id, LinkedHashMap::new, Collectors.toCollection(ArrayList::new)));
+        // later patches to the same user win, callers of the merged write share its result
+        Map<Long, Map<String, Object>> updates = new LinkedHashMap<>();
+        byId.forEach((id, pendingUpdates) -> {
+            Map<String, Object> properties = new LinkedHashMap<>();
+            pendingUpdates.forEach(pendingUpdate -> properties.putAll(pendingUpdate.properties()));
+            updates.put(id, properties);
+        });
+        // the whole window is one transaction on one connection, so a failure rolls back every update in it
+        return transactionalOperator.transactional(userRepository.updateAll(updates))
+                .doOnNext(updated -> byId.forEach((id, pendingUpdates) -> pendingUpdates
+                        .forEach(pendingUpdate -> pendingUpdate.result().tryEmitValue(updated.getOrDefault(id, 0)))))
+                .doOnError(throwable -> {
+                    LOG.error("Failed to update {} users: {}", byId.size(), throwable.getMessage());
+                    batch.forEach(pendingUpdate -> pendingUpdate.result().tryEmitError(throwable));
+                })
+                .onErrorResume(throwable -> Mono.empty())
+                .then();
+    }
+
+    private record PendingInsert(UserEntity userEntity, Sinks.One<Long> result) {
+    }
+
+    private record PendingUpdate(long id, Map<String, Object> properties, Sinks.One<Integer> result) {
+    }
+
+}
@@ -0,0 +1,122 @@
+package com.phoosop.reactive.service.webclient;
+
+import com.phoosop.reactive.config.BoredapiProperties;
+import com.phoosop.reactive.model.command.ActivityCommand;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+@Service
+public class ActivityCacheService {
+
+    private final Logger LOG = LoggerFactory.getLogger(ActivityCacheService.class);
+
+    private final BoredapiProperties.Cache properties;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicReference<Entry> entry = new AtomicReference<>();
+    private final AtomicReference<Mono<ActivityCommand>> inFlight = new AtomicReference<>();
+
+    private final Counter hits;
+    private final Counter staleHits;
+    private final Counter misses;
+    private final Timer refreshSuccess;
+    private final Timer refreshError;
+
+    public ActivityCacheService(BoredapiProperties boredapiProperties, MeterRegistry meterRegistry) {
+        this.properties = boredapiProperties.getCache();
+        this.meterRegistry = meterRegistry;
+        this.hits = requests(meterRegistry, "hit");
+        this.staleHits = requests(meterRegistry, "stale");
+        this.misses = requests(meterRegistry, "miss");
+        this.refreshSuccess = refresh(meterRegistry, "success");
+        this.refreshError = refresh(meterRegistry, "error");
+        Gauge.builder("boredapi.activity.cache.hit.ratio", this, ActivityCacheService::hitRatio)
+                .description("Share of activity lookups answered from the cache, fresh or stale")
+                .register(meterRegistry);
+    }
+
+    public Mono<ActivityCommand> get(Supplier<Mono<ActivityCommand>> loader) {
+        if (!properties.getEnabled()) {
+            return loader.get();
+        }
+        return Mono.defer(() -> {
+            Entry current = entry.get();
+            long age = current == null ? Long.MAX_VALUE : current.age();
+            if (age < properties.getTtl().toNanos()) {
+                hits.increment();
+                return Mono.just(current.value());
+            }
+            if (age < properties.getTtl().plus(properties.getStaleWhileRevalidate()).toNanos()) {
+                staleHits.increment();
+                refresh(loader).subscribe(value -> {
+                }, throwable -> LOG.warn("Failed to refresh activity: {}", throwable.getMessage()));
+                return Mono.just(current.value());
+            }
+            misses.increment();
+            return refresh(loader)
+                    .onErrorResume(throwable -> {
+                        if (age < properties.getTtl().plus(properties.getStaleIfError()).toNanos()) {
+                            LOG.warn("Serving stale activity: {}", throwable.getMessage());
+                            return Mono.just(current.value());
+                        }
+                        return Mono.error(throwable);
+                    });
+        });
+    }
+
+    private Mono<ActivityCommand> refresh(Supplier<Mono<ActivityCommand>> loader) {
+        Mono<ActivityCommand> current = inFlight.get();
+        if (current != null) {
+            return current;
+        }
+        Mono<ActivityCommand> load = Mono.defer(() -> {
+                    Timer.Sample sample = Timer.start(meterRegistry);
+                    return loader.get()
+                            .doOnNext(value -> entry.set(new Entry(value, System.nanoTime())))
+                            .doFinally(signalType -> sample.stop(signalType == SignalType.ON_ERROR ? refreshError : refreshSuccess));
+                })
+                .doFinally(signalType -> inFlight.set(null))
+                .cache();
+        if (inFlight.compareAndSet(null, load)) {
+            return load;
+        }
+        return refresh(loader);
+    }
+
+    private double hitRatio() {
+        double answered = hits.count() + staleHits.count();
+        double total = answered + misses.count();
+        return total == 0 ? 0 : answered / total;
+    }
+
+    private static Counter requests(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("boredapi.activity.cache.requests")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static Timer refresh(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("boredapi.activity.cache.refresh")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private record Entry(ActivityCommand value, long loadedAt) {
+
+        long age() {
+            return System.nanoTime() - loadedAt;
+        }
+
+    }
+
+}
@@ -0,0 +1,46 @@
+package com.phoosop.reactive.service.webclient;
+
+import com.phoosop.reactive.config.BoredapiProperties;
+import com.phoosop.reactive.model.command.ActivityCommand;
+import com.phoosop.reactive.service.PrefetchPool;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Supplier;
+
+@Service
+public class ActivityPoolService implements DisposableBean {
+
+    private final BoredapiProperties.Pool properties;
+
+    private final PrefetchPool<ActivityCommand> pool;
+
+    public ActivityPoolService(BoredapiProperties boredapiProperties, MeterRegistry meterRegistry) {
+        this.properties = boredapiProperties.getPool();
+        // every take refills, the pool is kept full
+        this.pool = new PrefetchPool<>("boredapi.activity.pool", properties.getSize(), properties.getSize(),
+                properties.getConcurrency(), meterRegistry);
+    }
+
+    public ActivityCommand poll() {
+        if (!properties.getEnabled()) {
+            return null;
+        }
+        return pool.poll();
+    }
+
+    public void start(Supplier<Mono<ActivityCommand>> loader) {
+        if (!properties.getEnabled()) {
+            return;
+        }
+        pool.start(loader, properties.getRefillInterval());
+    }
+
+    @Override
+    public void destroy() {
+        pool.dispose();
+    }
+
+}
@@ -0,0 +1,24 @@
+package com.phoosop.reactive.service.webclient;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class BoredapiCircuitBreakerHealthIndicator implements HealthIndicator {
+
+    private final BoredapiCircuitBreakerService boredapiCircuitBreakerService;
+
+    @Override
+    public Health health() {
+        // an open breaker degrades getUser to users without activities, the application itself stays up
+        return Health.up()
+                .withDetail("state", boredapiCircuitBreakerService.getState())
+                .withDetail("failureRate", boredapiCircuitBreakerService.getFailureRate())
+                .withDetail("slowCallRate", boredapiCircuitBreakerService.getSlowCallRate())
+                .build();
+    }
+
+}
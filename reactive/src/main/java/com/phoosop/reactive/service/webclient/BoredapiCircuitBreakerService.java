@@ -0,0 +1,242 @@
+package com.phoosop.reactive.service.webclient;
+
+import com.phoosop.reactive.config.BoredapiProperties;
+import com.phoosop.reactive.exception.ServiceException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.phoosop.reactive.exception.StatusConstants.HttpConstants;
+
+@Service
+public class BoredapiCircuitBreakerService {
+
+    public enum Type {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final Logger LOG = LoggerFactory.getLogger(BoredapiCircuitBreakerService.class);
+
+    private final BoredapiProperties.CircuitBreaker properties;
+
+    // every transition swaps in a new immutable state, so callers never lock
+    private final AtomicReference<State> state;
+
+    private final Counter successful;
+    private final Counter failed;
+    private final Counter slow;
+    private final Counter notPermitted;
+
+    public BoredapiCircuitBreakerService(BoredapiProperties boredapiProperties, MeterRegistry meterRegistry) {
+        this.properties = boredapiProperties.getCircuitBreaker();
+        this.state = new AtomicReference<>(closed());
+        this.successful = calls(meterRegistry, "successful");
+        this.failed = calls(meterRegistry, "failed");
+        this.slow = calls(meterRegistry, "slow");
+        this.notPermitted = calls(meterRegistry, "not_permitted");
+        for (Type type : Type.values()) {
+            Gauge.builder("boredapi.circuit.breaker.state", this, service -> service.getState() == type ? 1 : 0)
+                    .tag("state", type.name().toLowerCase())
+                    .register(meterRegistry);
+        }
+        Gauge.builder("boredapi.circuit.breaker.failure.rate", this, BoredapiCircuitBreakerService::getFailureRate)
+                .register(meterRegistry);
+        Gauge.builder("boredapi.circuit.breaker.slow.call.rate", this, BoredapiCircuitBreakerService::getSlowCallRate)
+                .register(meterRegistry);
+    }
+
+    public <T> Mono<T> execute(Mono<T> call) {
+        if (!properties.getEnabled()) {
+            return call;
+        }
+        return Mono.defer(() -> {
+            State acquired = acquirePermission();
+            if (acquired == null) {
+                notPermitted.increment();
+                return Mono.error(ServiceException.of(HttpConstants.ACTIVITY_SERVICE_IS_UNAVAILABLE));
+            }
+            long started = System.nanoTime();
+            AtomicBoolean recorded = new AtomicBoolean();
+            return call
+                    .doOnSuccess(value -> {
+                        if (recorded.compareAndSet(false, true)) {
+                            onResult(acquired, false, started);
+                        }
+                    })
+                    .doOnError(throwable -> {
+                        if (recorded.compareAndSet(false, true)) {
+                            onResult(acquired, true, started);
+                        }
+                    })
+                    .doOnCancel(() -> {
+                        // a cancelled call says nothing about the downstream, only hand back a half-open probe
+                        if (recorded.compareAndSet(false, true) && acquired.type() == Type.HALF_OPEN) {
+                            acquired.permits().incrementAndGet();
+                        }
+                    });
+        });
+    }
+
+    public boolean isNotPermitted(Throwable throwable) {
+        return throwable instanceof ServiceException exception
+                && exception.getStatus() == HttpConstants.ACTIVITY_SERVICE_IS_UNAVAILABLE;
+    }
+
+    public Type getState() {
+        return state.get().type();
+    }
+
+    public double getFailureRate() {
+        return state.get().window().failureRate();
+    }
+
+    public double getSlowCallRate() {
+        return state.get().window().slowCallRate();
+    }
+
+    private State acquirePermission() {
+        while (true) {
+            State current = state.get();
+            switch (current.type()) {
+                case CLOSED:
+                    return current;
+                case OPEN:
+                    if (System.nanoTime() - current.openedAt() < properties.getWaitDurationInOpen().toNanos()) {
+                        return null;
+                    }
+                    transition(current, halfOpen());
+                    break;
+                default:
+                    int permits = current.permits().get();
+                    if (permits <= 0) {
+                        return null;
+                    }
+                    if (current.permits().compareAndSet(permits, permits - 1)) {
+                        return current;
+                    }
+            }
+        }
+    }
+
+    private void onResult(State acquired, boolean failure, long started) {
+        boolean slowCall = System.nanoTime() - started >= properties.getSlowCallDuration().toNanos();
+        if (failure) {
+            failed.increment();
+        } else {
+            successful.increment();
+        }
+        if (slowCall) {
+            slow.increment();
+        }
+        if (acquired.type() == Type.HALF_OPEN) {
+            if (failure || slowCall) {
+                transition(acquired, open());
+            } else if (acquired.successes().incrementAndGet() >= properties.getPermittedCallsInHalfOpen()) {
+                transition(acquired, closed());
+            }
+            return;
+        }
+        SlidingWindow window = acquired.window();
+        window.record(failure, slowCall);
+        if (window.calls() >= properties.getMinimumCalls()
+                && (window.failureRate() >= properties.getFailureRateThreshold()
+                || window.slowCallRate() >= properties.getSlowCallRateThreshold())) {
+            transition(acquired, open());
+        }
+    }
+
+    private void transition(State from, State to) {
+        if (state.compareAndSet(from, to)) {
+            LOG.warn("Circuit breaker changed from {} to {}", from.type(), to.type());
+        }
+    }
+
+    private State closed() {
+        return new State(Type.CLOSED, 0, new SlidingWindow(properties.getWindowSize()), null, null);
+    }
+
+    private State open() {
+        return new State(Type.OPEN, System.nanoTime(), SlidingWindow.EMPTY, null, null);
+    }
+
+    private State halfOpen() {
+        return new State(Type.HALF_OPEN, 0, SlidingWindow.EMPTY,
+                new AtomicInteger(properties.getPermittedCallsInHalfOpen()), new AtomicInteger());
+    }
+
+    private static Counter calls(MeterRegistry meterRegistry, String kind) {
+        return Counter.builder("boredapi.circuit.breaker.calls")
+                .tag("kind", kind)
+                .register(meterRegistry);
+    }
+
+    private record State(Type type, long openedAt, SlidingWindow window, AtomicInteger permits, AtomicInteger successes) {
+    }
+
+    private static final class SlidingWindow {
+
+        private static final SlidingWindow EMPTY = new SlidingWindow(1);
+
+        private static final int RECORDED = 1;
+        private static final int FAILED = 2;
+        private static final int SLOW = 4;
+
+        // a ring of the last outcomes, the totals are adjusted with whatever outcome a slot overwrites
+        private final AtomicIntegerArray outcomes;
+        private final AtomicLong cursor = new AtomicLong();
+        private final AtomicInteger calls = new AtomicInteger();
+        private final AtomicInteger failures = new AtomicInteger();
+        private final AtomicInteger slowCalls = new AtomicInteger();
+
+        private SlidingWindow(int size) {
+            this.outcomes = new AtomicIntegerArray(size);
+        }
+
+        private void record(boolean failure, boolean slowCall) {
+            int outcome = RECORDED | (failure ? FAILED : 0) | (slowCall ? SLOW : 0);
+            int slot = (int) (cursor.getAndIncrement() % outcomes.length());
+            int replaced = outcomes.getAndSet(slot, outcome);
+            add(outcome, 1);
+            add(replaced, -1);
+        }
+
+        private void add(int outcome, int delta) {
+            if ((outcome & RECORDED) == 0) {
+                return;
+            }
+            calls.addAndGet(delta);
+            if ((outcome & FAILED) != 0) {
+                failures.addAndGet(delta);
+            }
+            if ((outcome & SLOW) != 0) {
+                slowCalls.addAndGet(delta);
+            }
+        }
+
+        private int calls() {
+            return calls.get();
+        }
+
+        private double failureRate() {
+            int total = calls.get();
+            return total == 0 ? 0 : failures.get() * 100.0 / total;
+        }
+
+        private double slowCallRate() {
+            int total = calls.get();
+            return total == 0 ? 0 : slowCalls.get() * 100.0 / total;
+        }
+
+    }
+
+}
@@ -0,0 +1,84 @@
+package com.phoosop.reactive.service.webclient;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.util.RawValue;
+import com.phoosop.reactive.config.BoredapiProperties;
+import com.phoosop.reactive.model.RawJson;
+import com.phoosop.reactive.model.command.ActivityCommand;
+import com.phoosop.reactive.model.external.ActivityExternal;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClientRequest;
+
+import java.io.IOException;
+
+@Service
+@RequiredArgsConstructor
+public class BoredapiClientService implements InitializingBean {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final WebClient boredapiWebClient;
+    private final BoredapiProperties boredapiProperties;
+    private final ConversionService conversionService;
+    private final ActivityCacheService activityCacheService;
+    private final ActivityPoolService activityPoolService;
+    private final BoredapiCircuitBreakerService boredapiCircuitBreakerService;
+    private final BoredapiHedgeService boredapiHedgeService;
+
+    public Mono<ActivityCommand> getActivity() {
+        return Mono.defer(() -> {
+            ActivityCommand activityCommand = activityPoolService.poll();
+            if (activityCommand != null) {
+                return Mono.just(activityCommand);
+            }
+            return getCachedActivity();
+        });
+    }
+
+    public Mono<ActivityCommand> getCachedActivity() {
+        // only callers waiting on the live call are hedged, the pool producer is not
+        return activityCacheService.get(() -> boredapiHedgeService.execute(this::fetchActivity))
+                .onErrorResume(throwable -> boredapiProperties.getCircuitBreaker().getFallbackToEmpty()
+                        && boredapiCircuitBreakerService.isNotPermitted(throwable), throwable -> Mono.empty());
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        activityPoolService.start(this::fetchActivity);
+    }
+
+    private Mono<ActivityCommand> fetchActivity() {
+        WebClient.ResponseSpec responseSpec = boredapiWebClient.get()
+                .uri(boredapiProperties.getPath().getGetActivity())
+                .httpRequest(request -> request.<HttpClientRequest>getNativeRequest()
+                        .responseTimeout(boredapiProperties.getTimeout().getGetActivity()))
+//                .headers(headers -> headers.setBasicAuth("user", "userpwd"))
+                .retrieve();
+        if (boredapiProperties.getPassthrough()) {
+            return boredapiCircuitBreakerService.execute(responseSpec.bodyToMono(byte[].class).map(this::toRawActivity));
+        }
+        return boredapiCircuitBreakerService.execute(responseSpec.bodyToMono(ActivityExternal.class))
+                .map(item -> conversionService.convert(item, ActivityCommand.class));
+    }
+
+    private ActivityCommand toRawActivity(byte[] body) {
+        // the body is only scanned, not bound or decoded to a String; its UTF-8 bytes are written out as they came in
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT || parser.skipChildren().nextToken() != null) {
+                throw new DecodingException("Activity response is not a JSON object");
+            }
+        } catch (IOException e) {
+            throw new DecodingException("Activity response is not valid JSON", e);
+        }
+        return new ActivityCommand().setRaw(new RawValue(new RawJson(body)));
+    }
+
+}
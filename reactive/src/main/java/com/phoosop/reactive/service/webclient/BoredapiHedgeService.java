@@ -0,0 +1,153 @@
+package com.phoosop.reactive.service.webclient;
+
+import com.phoosop.reactive.config.BoredapiProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.function.Tuple2;
+
+import java.time.Duration;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+@Service
+public class BoredapiHedgeService {
+
+    private static final double PERCENTILE = 0.95;
+    private static final long MINIMUM_SAMPLES = 20;
+    private static final long TOKEN = 100;
+
+    private final BoredapiProperties.Hedge properties;
+    private final BoredapiCircuitBreakerService boredapiCircuitBreakerService;
+
+    private final Timer latency;
+    private final Counter sent;
+    private final Counter won;
+    private final Counter rejected;
+
+    // hedge budget in hundredths of a hedge, every primary call earns `budget` of them
+    private final AtomicLong tokens = new AtomicLong();
+
+    public BoredapiHedgeService(BoredapiProperties boredapiProperties, BoredapiCircuitBreakerService boredapiCircuitBreakerService,
+                                MeterRegistry meterRegistry) {
+        this.properties = boredapiProperties.getHedge();
+        this.boredapiCircuitBreakerService = boredapiCircuitBreakerService;
+        this.latency = Timer.builder("boredapi.activity.latency")
+                .publishPercentiles(PERCENTILE)
+                .register(meterRegistry);
+        this.sent = hedges(meterRegistry, "sent");
+        this.won = hedges(meterRegistry, "won");
+        this.rejected = hedges(meterRegistry, "rejected");
+    }
+
+    public <T> Mono<T> execute(Supplier<Mono<T>> call) {
+        if (!properties.getEnabled()) {
+            return Mono.defer(call);
+        }
+        return Mono.defer(() -> {
+            deposit();
+            Duration delay = delay();
+            if (tokens.get() < TOKEN) {
+                return unhedged(call, delay);
+            }
+            AtomicReference<Throwable> primaryError = new AtomicReference<>();
+            Sinks.One<Throwable> failedFast = Sinks.one();
+            Mono<T> primary = timed(call).doOnError(throwable -> {
+                primaryError.set(throwable);
+                if (!isRetryable(throwable)) {
+                    failedFast.tryEmitValue(throwable);
+                }
+            });
+            // a hedge would fail the same way as a primary that was rejected or refused, so it is dropped right away
+            Mono<T> hedge = Mono.delay(delay)
+                    .flatMap(tick -> {
+                        if (!withdraw()) {
+                            rejected.increment();
+                            return Mono.empty();
+                        }
+                        sent.increment();
+                        return timed(call).doOnNext(value -> won.increment());
+                    })
+                    .takeUntilOther(failedFast.asMono());
+            // the first value wins and the other attempt is cancelled, so a primary that fails fast is masked by the
+            // hedge. Only when neither has a value the caller sees the primary's own error
+            return Mono.firstWithValue(primary, hedge)
+                    .onErrorResume(NoSuchElementException.class, throwable -> primaryError.get() == null
+                            ? Mono.empty()
+                            : Mono.error(primaryError.get()));
+        });
+    }
+
+    private <T> Mono<T> timed(Supplier<Mono<T>> call) {
+        return Mono.defer(call)
+                .elapsed()
+                .doOnNext(elapsed -> latency.record(elapsed.getT1(), TimeUnit.MILLISECONDS))
+                .map(Tuple2::getT2);
+    }
+
+    // no budget for a hedge: the primary runs alone and its own value or error goes back to the caller. It still
+    // counts as a rejected hedge once it runs past the hedge delay
+    private <T> Mono<T> unhedged(Supplier<Mono<T>> call, Duration delay) {
+        return timed(call)
+                .materialize()
+                .elapsed()
+                .doOnNext(elapsed -> {
+                    if (elapsed.getT1() >= delay.toMillis()) {
+                        rejected.increment();
+                    }
+                })
+                .map(Tuple2::getT2)
+                .dematerialize();
+    }
+
+    private boolean isRetryable(Throwable throwable) {
+        if (boredapiCircuitBreakerService.isNotPermitted(throwable) || throwable instanceof DecodingException) {
+            return false;
+        }
+        return !(throwable instanceof WebClientResponseException exception && exception.getStatusCode().is4xxClientError());
+    }
+
+    private Duration delay() {
+        if (properties.getUsePercentile() && latency.count() >= MINIMUM_SAMPLES) {
+            for (ValueAtPercentile valueAtPercentile : latency.takeSnapshot().percentileValues()) {
+                if (valueAtPercentile.percentile() == PERCENTILE && valueAtPercentile.value() > 0) {
+                    return Duration.ofNanos((long) valueAtPercentile.value(TimeUnit.NANOSECONDS));
+                }
+            }
+        }
+        return properties.getDelay();
+    }
+
+    private void deposit() {
+        long max = TOKEN * properties.getMaxBurst();
+        tokens.updateAndGet(current -> Math.min(max, current + properties.getBudget()));
+    }
+
+    private boolean withdraw() {
+        while (true) {
+            long current = tokens.get();
+            if (current < TOKEN) {
+                return false;
+            }
+            if (tokens.compareAndSet(current, current - TOKEN)) {
+                return true;
+            }
+        }
+    }
+
+    private static Counter hedges(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("boredapi.activity.hedges")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+}
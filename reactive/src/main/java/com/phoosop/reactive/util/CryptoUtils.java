@@ -0,0 +1,15 @@
+package com.phoosop.reactive.util;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.AlgorithmParameterSpec;
+
+public class CryptoUtils {
+
+    public static KeyPair generateKeyPair(String algorithm, AlgorithmParameterSpec parameters) throws GeneralSecurityException {
+        KeyPairGenerator kpg = KeyPairGenerator.getInstance(algorithm);
+        kpg.initialize(parameters);
+        return kpg.generateKeyPair();
+    }
+}
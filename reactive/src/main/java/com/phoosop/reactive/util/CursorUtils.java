@@ -0,0 +1,30 @@
+package com.phoosop.reactive.util;
+
+import com.phoosop.reactive.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static com.phoosop.reactive.exception.StatusConstants.HttpConstants;
+
+public class CursorUtils {
+
+    public static String encode(long id) {
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(Long.toString(id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static long decode(String cursor) {
+        try {
+            long id = Long.parseLong(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+            if (id > 0) {
+                return id;
+            }
+        } catch (IllegalArgumentException e) {
+            // falls through to the invalid cursor error below
+        }
+        throw InvalidRequestException.of(HttpConstants.CURSOR_IS_INVALID);
+    }
+
+}
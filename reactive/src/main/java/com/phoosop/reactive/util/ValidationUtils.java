@@ -0,0 +1,55 @@
+package com.phoosop.reactive.util;
+
+import com.phoosop.reactive.exception.InvalidRequestException;
+import com.phoosop.reactive.model.enums.BaseEnum;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.phoosop.reactive.exception.StatusConstants.HttpConstants;
+
+/**
+ * The checks behind {@code @Required}, {@code @IsEnum}, {@code @IsDate}, {@code @Min} and {@code @Max}, shared by the
+ * constraint validators and the generated request validators.
+ */
+public class ValidationUtils {
+
+    public static void required(Object value, HttpConstants exception) {
+        if (value == null || value instanceof String string && StringUtils.isBlank(string)) {
+            throw InvalidRequestException.of(exception);
+        }
+    }
+
+    public static Set<Object> values(Class<? extends BaseEnum> enumClass) {
+        return Arrays.stream(enumClass.getEnumConstants())
+                .map(BaseEnum::getValue)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    public static void isEnum(Object value, Set<Object> values, HttpConstants exception) {
+        if (value != null && !values.contains(value)) {
+            throw InvalidRequestException.of(exception);
+        }
+    }
+
+    public static void isDate(String value, String format, HttpConstants exception) {
+        if (StringUtils.isNotBlank(value) && DateTimeUtils.parse(value, format).isEmpty()) {
+            throw InvalidRequestException.of(exception);
+        }
+    }
+
+    public static void min(Object value, long min, HttpConstants exception) {
+        if (value instanceof Integer intValue && intValue < min || value instanceof Long longValue && longValue < min) {
+            throw InvalidRequestException.of(exception);
+        }
+    }
+
+    public static void max(Object value, long max, HttpConstants exception) {
+        if (value instanceof Integer intValue && intValue > max || value instanceof Long longValue && longValue > max) {
+            throw InvalidRequestException.of(exception);
+        }
+    }
+
+}
@@ -0,0 +1,12 @@
+package com.phoosop.reactive.validation;
+
+/**
+ * Plain-code validator generated at compile time for a request with {@code @Required}, {@code @IsEnum},
+ * {@code @IsDate}, {@code @Min} or {@code @Max} fields. It throws the same {@code InvalidRequestException} the
+ * constraint validators throw, for the first field that fails. Look validators up through {@link RequestValidators}.
+ */
+public interface RequestValidator<T> {
+
+    void validate(T request);
+
+}
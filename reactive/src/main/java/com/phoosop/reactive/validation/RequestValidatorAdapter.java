@@ -0,0 +1,37 @@
+package com.phoosop.reactive.validation;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.validation.Errors;
+import org.springframework.validation.SmartValidator;
+
+/**
+ * Validates {@code @Valid} arguments with their generated {@link RequestValidator}, other classes and validation
+ * groups go to the bean validation fallback.
+ */
+@RequiredArgsConstructor
+public class RequestValidatorAdapter implements SmartValidator {
+
+    private final RequestValidators requestValidators;
+    private final SmartValidator fallback;
+
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return true;
+    }
+
+    @Override
+    public void validate(Object target, Errors errors) {
+        validate(target, errors, new Object[0]);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors, Object... validationHints) {
+        RequestValidator<Object> requestValidator = validationHints.length == 0 ? requestValidators.find(target.getClass()) : null;
+        if (requestValidator == null) {
+            fallback.validate(target, errors, validationHints);
+            return;
+        }
+        requestValidator.validate(target);
+    }
+
+}
@@ -0,0 +1,36 @@
+package com.phoosop.reactive.validation;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Finds the generated {@link RequestValidator} of a request class, e.g. {@code CreateUserRequestValidator} next to
+ * {@code CreateUserRequest}. The lookup is done once per class.
+ */
+public class RequestValidators {
+
+    private final ConcurrentMap<Class<?>, Optional<RequestValidator<?>>> validators = new ConcurrentHashMap<>();
+
+    /**
+     * Returns null when the class has no generated validator, it is then left to Hibernate Validator.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> RequestValidator<T> find(Class<? extends T> type) {
+        return (RequestValidator<T>) validators.computeIfAbsent(type, RequestValidators::load).orElse(null);
+    }
+
+    private static Optional<RequestValidator<?>> load(Class<?> type) {
+        String name = type.getName().replace('$', '_') + "Validator";
+        try {
+            Class<?> validatorClass = Class.forName(name, true, type.getClassLoader());
+            return Optional.of((RequestValidator<?>) validatorClass.getDeclaredConstructor().newInstance());
+        } catch (ClassNotFoundException e) {
+            return Optional.empty();
+        } catch (NoSuchMethodException | InstantiationException | IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Failed to create " + name, e);
+        }
+    }
+
+}
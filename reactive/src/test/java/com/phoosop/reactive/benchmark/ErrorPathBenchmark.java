@@ -0,0 +1,86 @@
+package com.phoosop.reactive.benchmark;
+
+import com.phoosop.reactive.annotations.RequiredAnnotation;
+import com.phoosop.reactive.exception.InvalidRequestException;
+import com.phoosop.reactive.exception.StatusConstants.HttpConstants;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Throughput of the validation failure path, a {@link RequiredAnnotation}-style check that throws and a handler that
+ * reads the status back. The throw happens {@code depth} frames below the catch, roughly what a request goes through
+ * between the Netty event loop and a validator. "filledStackTrace" creates the exception the way it was created before
+ * it became stackless, "stackless" creates a new stackless one and "cached" throws the shared instance.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ErrorPathBenchmark {
+
+    @Param({"10", "100"})
+    private int depth;
+
+    private final HttpConstants status = HttpConstants.FIRST_NAME_IS_REQUIRED;
+
+    @Benchmark
+    public HttpConstants filledStackTrace() {
+        try {
+            return throwAt(depth, () -> new FilledInvalidRequestException(status));
+        } catch (FilledInvalidRequestException exception) {
+            return exception.status;
+        }
+    }
+
+    @Benchmark
+    public HttpConstants stackless() {
+        try {
+            return throwAt(depth, () -> new StacklessInvalidRequestException(status));
+        } catch (StacklessInvalidRequestException exception) {
+            return exception.status;
+        }
+    }
+
+    @Benchmark
+    public HttpConstants cached() {
+        try {
+            return throwAt(depth, () -> InvalidRequestException.of(status));
+        } catch (InvalidRequestException exception) {
+            return exception.getStatus();
+        }
+    }
+
+    private static HttpConstants throwAt(int depth, Supplier<RuntimeException> exception) {
+        if (depth == 0) {
+            throw exception.get();
+        }
+        return throwAt(depth - 1, exception);
+    }
+
+    private static class FilledInvalidRequestException extends RuntimeException {
+
+        private final HttpConstants status;
+
+        FilledInvalidRequestException(HttpConstants status) {
+            super(status.getDesc(), null);
+            this.status = status;
+        }
+
+    }
+
+    private static class StacklessInvalidRequestException extends RuntimeException {
+
+        private final HttpConstants status;
+
+        StacklessInvalidRequestException(HttpConstants status) {
+            super(status.getDesc(), null, false, false);
+            this.status = status;
+        }
+
+    }
+
+}
@@ -0,0 +1,45 @@
+package com.phoosop.reactive.benchmark;
+
+import com.phoosop.reactive.config.CryptoConfig;
+import com.phoosop.reactive.model.enums.KeyAlgorithm;
+import com.phoosop.reactive.service.crypto.KeyGenerationService;
+import org.openjdk.jmh.annotations.*;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of one key pair per {@link KeyAlgorithm}, as generated on a miss of the key pool. RSA generation time varies a
+ * lot between runs because it searches for primes, so look at the error column too.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class KeyGenerationBenchmark {
+
+    @Param({"RSA_2048", "RSA_3072", "EC_P256", "ED25519"})
+    private KeyAlgorithm algorithm;
+
+    private KeyGenerationService keyGenerationService;
+
+    @Setup
+    public void setUp() {
+        CryptoConfig cryptoConfig = new CryptoConfig();
+        keyGenerationService = new KeyGenerationService(List.of(
+                cryptoConfig.rsa2048KeyGenerationStrategy(),
+                cryptoConfig.rsa3072KeyGenerationStrategy(),
+                cryptoConfig.ecP256KeyGenerationStrategy(),
+                cryptoConfig.ed25519KeyGenerationStrategy()));
+    }
+
+    @Benchmark
+    public KeyPair generate() throws GeneralSecurityException {
+        return keyGenerationService.generate(algorithm);
+    }
+
+}
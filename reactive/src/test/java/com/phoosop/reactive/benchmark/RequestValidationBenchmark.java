@@ -0,0 +1,79 @@
+package com.phoosop.reactive.benchmark;
+
+import com.phoosop.reactive.exception.InvalidRequestException;
+import com.phoosop.reactive.model.enums.UserStatus;
+import com.phoosop.reactive.model.enums.UserType;
+import com.phoosop.reactive.model.request.CreateUserRequest;
+import com.phoosop.reactive.model.request.CreateUserRequestValidator;
+import org.openjdk.jmh.annotations.*;
+
+import javax.validation.Validation;
+import javax.validation.ValidationException;
+import javax.validation.Validator;
+import javax.validation.ValidatorFactory;
+import java.util.concurrent.TimeUnit;
+
+import static com.phoosop.reactive.exception.StatusConstants.HttpConstants;
+
+/**
+ * Cost of validating one {@link CreateUserRequest}: "beanValidation" is the reflective Hibernate Validator path that
+ * {@code @Valid} used before, "generated" is the validator generated at compile time. The invalid request misses its
+ * age, so on the reflective path the failure also pays for the {@code ValidationException} wrapper.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RequestValidationBenchmark {
+
+    @Param({"valid", "invalid"})
+    private String request;
+
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private final CreateUserRequestValidator createUserRequestValidator = new CreateUserRequestValidator();
+    private CreateUserRequest createUserRequest;
+
+    @Setup
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+        createUserRequest = new CreateUserRequest()
+                .setCardId("cardId")
+                .setFirstName("firstName")
+                .setSecondName("secondName")
+                .setType(UserType.USER.getValue())
+                .setStatus(UserStatus.ACTIVE.getValue())
+                .setDateOfBirth("1991-11-11")
+                .setAge(request.equals("valid") ? 18 : null)
+                .setMobileNumber("12345678901")
+                .setMobileBrand("Apple");
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public HttpConstants beanValidation() {
+        try {
+            return validator.validate(createUserRequest).isEmpty() ? HttpConstants.SUCCESS : HttpConstants.BAD_REQUEST;
+        } catch (ValidationException exception) {
+            return ((InvalidRequestException) exception.getCause()).getStatus();
+        }
+    }
+
+    @Benchmark
+    public HttpConstants generated() {
+        try {
+            createUserRequestValidator.validate(createUserRequest);
+            return HttpConstants.SUCCESS;
+        } catch (InvalidRequestException exception) {
+            return exception.getStatus();
+        }
+    }
+
+}
@@ -0,0 +1,173 @@
+package com.phoosop.reactive.benchmark;
+
+import com.phoosop.reactive.converter.UserCommandToUserShortResponseConverterImpl;
+import com.phoosop.reactive.converter.UserEntityToUserCommandConverterImpl;
+import com.phoosop.reactive.converter.UserShortEntityToUserShortResponseConverterImpl;
+import com.phoosop.reactive.model.entity.UserEntity;
+import com.phoosop.reactive.model.entity.UserShortEntity;
+import com.phoosop.reactive.model.response.UserShortResponse;
+import io.r2dbc.spi.ColumnMetadata;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.r2dbc.convert.MappingR2dbcConverter;
+import org.springframework.data.r2dbc.convert.R2dbcConverter;
+import org.springframework.data.r2dbc.convert.R2dbcCustomConversions;
+import org.springframework.data.r2dbc.dialect.MySqlDialect;
+import org.springframework.data.r2dbc.mapping.R2dbcMappingContext;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of turning one page of list rows into {@link UserShortResponse}s through the same {@link R2dbcConverter}
+ * the repository uses. The "full" case reads every column of {@code SELECT *} into a {@link UserEntity} and maps it
+ * through the command, the "projection" case reads only the short-response columns into a {@link UserShortEntity}
+ * and maps it straight to the response. Rows hold their columns as text-protocol bytes and decode them on access,
+ * like the driver does. {@link #rowBytes} reports the payload of one row; run with {@code -prof gc} to compare
+ * allocations per page.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserShortProjectionBenchmark {
+
+    private static final List<String> SHORT_COLUMNS = List.of("id", "card_id", "first_name", "second_name", "type", "status");
+
+    @Param({"10", "100"})
+    private int pageSize;
+
+    private final R2dbcConverter converter = new MappingR2dbcConverter(new R2dbcMappingContext(),
+            R2dbcCustomConversions.of(MySqlDialect.INSTANCE, Collections.emptyList()));
+    private final UserEntityToUserCommandConverterImpl userEntityToUserCommandConverter = new UserEntityToUserCommandConverterImpl();
+    private final UserCommandToUserShortResponseConverterImpl userCommandToUserShortResponseConverter = new UserCommandToUserShortResponseConverterImpl();
+    private final UserShortEntityToUserShortResponseConverterImpl userShortEntityToUserShortResponseConverter = new UserShortEntityToUserShortResponseConverterImpl();
+
+    private List<TextRow> fullRows;
+    private List<TextRow> shortRows;
+
+    @Setup
+    public void setUp() {
+        fullRows = new ArrayList<>(pageSize);
+        shortRows = new ArrayList<>(pageSize);
+        for (long id = 1; id <= pageSize; id++) {
+            Map<String, Object> columns = new LinkedHashMap<>();
+            columns.put("id", id);
+            columns.put("card_id", "12321");
+            columns.put("first_name", "Note_10");
+            columns.put("second_name", "Volans");
+            columns.put("type", "user");
+            columns.put("status", 1);
+            columns.put("level", 1);
+            columns.put("date_of_birth", "27-11-1991");
+            columns.put("age", 33);
+            fullRows.add(new TextRow(columns));
+            columns.keySet().retainAll(SHORT_COLUMNS);
+            shortRows.add(new TextRow(columns));
+        }
+        System.out.printf("%nrow payload: full=%d bytes, projection=%d bytes%n", rowBytes(fullRows.get(0)), rowBytes(shortRows.get(0)));
+    }
+
+    @Benchmark
+    public void fullRow(Blackhole blackhole) {
+        for (TextRow row : fullRows) {
+            UserEntity userEntity = converter.read(UserEntity.class, row, row);
+            blackhole.consume(userCommandToUserShortResponseConverter.convert(userEntityToUserCommandConverter.convert(userEntity)));
+        }
+    }
+
+    @Benchmark
+    public void projection(Blackhole blackhole) {
+        for (TextRow row : shortRows) {
+            UserShortEntity userShortEntity = converter.read(UserShortEntity.class, row, row);
+            blackhole.consume(userShortEntityToUserShortResponseConverter.convert(userShortEntity));
+        }
+    }
+
+    private static int rowBytes(TextRow row) {
+        return row.columns.values().stream().mapToInt(value -> value.length).sum();
+    }
+
+    private static final class TextRow implements Row, RowMetadata {
+
+        private final Map<String, byte[]> columns = new LinkedHashMap<>();
+        private final Map<String, Class<?>> types = new LinkedHashMap<>();
+        private final List<String> names;
+
+        private TextRow(Map<String, Object> values) {
+            values.forEach((name, value) -> {
+                columns.put(name, value.toString().getBytes(StandardCharsets.UTF_8));
+                types.put(name, value.getClass());
+            });
+            names = List.copyOf(columns.keySet());
+        }
+
+        @Override
+        public <T> T get(int index, Class<T> type) {
+            return get(names.get(index), type);
+        }
+
+        @Override
+        public <T> T get(String name, Class<T> type) {
+            return type.cast(get(name));
+        }
+
+        @Override
+        public Object get(int index) {
+            return get(names.get(index));
+        }
+
+        @Override
+        public Object get(String name) {
+            byte[] value = columns.get(name);
+            if (value == null) {
+                return null;
+            }
+            String text = new String(value, StandardCharsets.UTF_8);
+            Class<?> type = types.get(name);
+            if (type == Long.class) {
+                return Long.valueOf(text);
+            }
+            if (type == Integer.class) {
+                return Integer.valueOf(text);
+            }
+            return text;
+        }
+
+        @Override
+        public ColumnMetadata getColumnMetadata(int index) {
+            return () -> names.get(index);
+        }
+
+        @Override
+        public ColumnMetadata getColumnMetadata(String name) {
+            return () -> name;
+        }
+
+        @Override
+        public Iterable<? extends ColumnMetadata> getColumnMetadatas() {
+            List<ColumnMetadata> metadata = new ArrayList<>(names.size());
+            for (String name : names) {
+                metadata.add(() -> name);
+            }
+            return metadata;
+        }
+
+        @Override
+        public Collection<String> getColumnNames() {
+            return names;
+        }
+
+    }
+
+}
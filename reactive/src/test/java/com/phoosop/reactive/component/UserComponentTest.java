@@ -0,0 +1,955 @@
+package com.phoosop.reactive.component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.RawValue;
+import com.phoosop.reactive.config.UserProperties;
+import com.phoosop.reactive.exception.InvalidRequestException;
+import com.phoosop.reactive.exception.NotFoundException;
+import com.phoosop.reactive.exception.ServiceException;
+import com.phoosop.reactive.exception.StatusConstants.HttpConstants;
+import com.phoosop.reactive.exception.TooManyRequestsException;
+import com.phoosop.reactive.model.CustomPage;
+import com.phoosop.reactive.model.command.ActivityCommand;
+import com.phoosop.reactive.model.command.UserCommand;
+import com.phoosop.reactive.model.entity.UserShortEntity;
+import com.phoosop.reactive.model.enums.KeyAlgorithm;
+import com.phoosop.reactive.model.enums.UserLevel;
+import com.phoosop.reactive.model.enums.UserStatus;
+import com.phoosop.reactive.model.enums.UserType;
+import com.phoosop.reactive.model.request.BatchUpdateUserRequest;
+import com.phoosop.reactive.model.request.CreateUserRequest;
+import com.phoosop.reactive.model.request.CreateUserRequestValidator;
+import com.phoosop.reactive.model.request.UpdateUserRequest;
+import com.phoosop.reactive.model.response.ActivityResponse;
+import com.phoosop.reactive.model.response.BatchItemResponse;
+import com.phoosop.reactive.model.response.GeneratedKeyResponse;
+import com.phoosop.reactive.model.response.ImportProgressResponse;
+import com.phoosop.reactive.model.response.UserResponse;
+import com.phoosop.reactive.model.response.UserShortResponse;
+import com.phoosop.reactive.service.crypto.CryptoExecutorService;
+import com.phoosop.reactive.service.crypto.KeyGenerationService;
+import com.phoosop.reactive.service.crypto.KeyPairPoolService;
+import com.phoosop.reactive.service.persistence.UserPersistenceService;
+import com.phoosop.reactive.service.webclient.BoredapiClientService;
+import com.phoosop.reactive.util.CryptoUtils;
+import com.phoosop.reactive.validation.RequestValidators;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.data.domain.PageRequest;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import reactor.test.publisher.PublisherProbe;
+
+import javax.validation.ValidationException;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.NamedParameterSpec;
+import java.time.Duration;
+import javax.validation.Validator;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+class UserComponentTest {
+
+    @InjectMocks
+    private UserComponent userComponent;
+
+    @Mock
+    private ConversionService conversionService;
+
+    @Mock
+    private UserPersistenceService userPersistenceService;
+
+    @Mock
+    private BoredapiClientService boredapiClientService;
+
+    @Mock
+    private KeyPairPoolService keyPairPoolService;
+
+    @Mock
+    private CryptoExecutorService cryptoExecutorService;
+
+    @Mock
+    private KeyGenerationService keyGenerationService;
+
+    @Mock
+    private UserProperties userProperties;
+
+    @Mock
+    private Validator validator;
+
+    @Mock
+    private RequestValidators requestValidators;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    public void testCreateUser() {
+        CreateUserRequest request = new CreateUserRequest();
+        UserCommand returnConverterToUserCommand = new UserCommand();
+        UserCommand returnPersistence = new UserCommand();
+
+        UserResponse returnConverterToUserResponse = new UserResponse()
+                .setAge(1)
+                .setCardId("card_id")
+                .setDateOfBirth("27-11-1991")
+                .setStatus(UserStatus.ACTIVE.getValue())
+                .setType(UserType.USER.getValue())
+                .setFirstName("firstName")
+                .setSecondName("secondName")
+                .setId(1L)
+                .setLevel(UserLevel.LEVEL_1.getValue());
+
+        Mockito.when(conversionService.convert(request, UserCommand.class)).thenReturn(returnConverterToUserCommand);
+        Mockito.when(userPersistenceService.save(returnConverterToUserCommand)).thenReturn(Mono.just(returnPersistence));
+        Mockito.when(conversionService.convert(returnPersistence, UserResponse.class)).thenReturn(returnConverterToUserResponse);
+        StepVerifier.create(userComponent.createUser(request))
+                .expectNextMatches(result -> result.getAge().equals(1)
+                        && result.getCardId().equals("card_id")
+                        && result.getDateOfBirth().equals("27-11-1991")
+                        && result.getStatus().equals(UserStatus.ACTIVE.getValue())
+                        && result.getType().equals(UserType.USER.getValue())
+                        && result.getFirstName().equals("firstName")
+                        && result.getSecondName().equals("secondName")
+                        && result.getId().equals(1L)
+                        && result.getLevel().equals(UserLevel.LEVEL_1.getValue()))
+                .verifyComplete();
+        Mockito.verify(conversionService, Mockito.times(1)).convert(request, UserCommand.class);
+        Mockito.verify(userPersistenceService, Mockito.times(1)).save(returnConverterToUserCommand);
+        Mockito.verify(conversionService, Mockito.times(1)).convert(returnPersistence, UserResponse.class);
+    }
+
+    @Test
+    public void testUpdateUser() {
+        long id = 1L;
+        UpdateUserRequest request = new UpdateUserRequest()
+                .setAge(1)
+                .setCardId("card_id")
+                .setDateOfBirth("27-11-1991")
+                .setStatus(UserStatus.ACTIVE.getValue())
+                .setType(UserType.USER.getValue())
+                .setFirstName("firstName")
+                .setSecondName("secondName");
+
+        UserCommand updated = new UserCommand()
+                .setId(1L)
+                .setLevel(UserLevel.LEVEL_1);
+
+        UserResponse returnConverterToUserResponse = new UserResponse()
+                .setAge(1)
+                .setCardId("card_id")
+                .setDateOfBirth("27-11-1991")
+                .setStatus(UserStatus.ACTIVE.getValue())
+                .setType(UserType.USER.getValue())
+                .setFirstName("firstName")
+                .setSecondName("secondName")
+                .setId(1L)
+                .setLevel(UserLevel.LEVEL_1.getValue());
+
+        Mockito.when(conversionService.convert(updated, UserResponse.class)).thenReturn(returnConverterToUserResponse);
+        Mockito.when(userPersistenceService.update(Mockito.eq(id), Mockito.any(UserCommand.class))).then(invocationOnMock -> {
+            UserCommand changes = invocationOnMock.getArgument(1);
+            assertThat(changes.getAge()).isEqualTo(1);
+            assertThat(changes.getCardId()).isEqualTo("card_id");
+            assertThat(changes.getDateOfBirth()).isEqualTo("27-11-1991");
+            assertThat(changes.getStatus()).isEqualTo(UserStatus.ACTIVE);
+            assertThat(changes.getType()).isEqualTo(UserType.USER);
+            assertThat(changes.getFirstName()).isEqualTo("firstName");
+            assertThat(changes.getSecondName()).isEqualTo("secondName");
+            assertThat(changes.getId()).isNull();
+            assertThat(changes.getLevel()).isNull();
+            return Mono.just(updated);
+        });
+        StepVerifier.create(userComponent.updateUser(id, request))
+                .expectNextMatches(result -> result.getAge().equals(1)
+                        && result.getCardId().equals("card_id")
+                        && result.getDateOfBirth().equals("27-11-1991")
+                        && result.getStatus().equals(UserStatus.ACTIVE.getValue())
+                        && result.getType().equals(UserType.USER.getValue())
+                        && result.getFirstName().equals("firstName")
+                        && result.getSecondName().equals("secondName")
+                        && result.getId().equals(1L)
+                        && result.getLevel().equals(UserLevel.LEVEL_1.getValue()))
+                .verifyComplete();
+        Mockito.verify(userPersistenceService, Mockito.times(1)).update(Mockito.eq(id), Mockito.any(UserCommand.class));
+        Mockito.verify(userPersistenceService, Mockito.never()).findById(id);
+        Mockito.verify(userPersistenceService, Mockito.never()).save(Mockito.any(UserCommand.class));
+        Mockito.verify(conversionService, Mockito.times(1)).convert(updated, UserResponse.class);
+
+    }
+
+    @Test
+    public void testUpdateUser_onlyChangedFields() {
+        long id = 1L;
+        UpdateUserRequest request = new UpdateUserRequest()
+                .setFirstName("firstName")
+                .setSecondName(" ");
+
+        Mockito.when(userPersistenceService.update(Mockito.eq(id), Mockito.any(UserCommand.class))).then(invocationOnMock -> {
+            UserCommand changes = invocationOnMock.getArgument(1);
+            assertThat(changes.getFirstName()).isEqualTo("firstName");
+            assertThat(changes.getSecondName()).isNull();
+            assertThat(changes.getCardId()).isNull();
+            assertThat(changes.getType()).isNull();
+            assertThat(changes.getStatus()).isNull();
+            assertThat(changes.getDateOfBirth()).isNull();
+            assertThat(changes.getAge()).isNull();
+            return Mono.just(changes.setId(id));
+        });
+        Mockito.when(conversionService.convert(Mockito.any(UserCommand.class), Mockito.eq(UserResponse.class))).thenReturn(new UserResponse().setId(id));
+        StepVerifier.create(userComponent.updateUser(id, request))
+                .expectNextMatches(result -> result.getId().equals(1L))
+                .verifyComplete();
+    }
+
+    @Test
+    public void testUpdateUser_userNotFound() {
+        long id = 1L;
+        UpdateUserRequest request = new UpdateUserRequest()
+                .setAge(1)
+                .setCardId("card_id")
+                .setDateOfBirth("27-11-1991")
+                .setStatus(UserStatus.ACTIVE.getValue())
+                .setType(UserType.USER.getValue())
+                .setFirstName("firstName")
+                .setSecondName("secondName");
+        Mockito.when(userPersistenceService.update(Mockito.eq(id), Mockito.any(UserCommand.class))).thenReturn(Mono.empty());
+        StepVerifier.create(userComponent.updateUser(id, request))
+                .expectErrorMatches(throwable -> {
+                    if (throwable instanceof NotFoundException exception) {
+                        return exception.getStatus().equals(HttpConstants.USER_NOT_FOUND);
+                    }
+                    return false;
+                }).verify();
+        Mockito.verify(userPersistenceService, Mockito.times(1)).update(Mockito.eq(id), Mockito.any(UserCommand.class));
+
+    }
+
+    @Test
+    public void testUpdateUser_wrongType() {
+        long id = 1L;
+        UpdateUserRequest request = new UpdateUserRequest()
+                .setAge(1)
+                .setCardId("card_id")
+                .setDateOfBirth("27-11-1991")
+                .setStatus(UserStatus.ACTIVE.getValue())
+                .setType("321321")
+                .setFirstName("firstName")
+                .setSecondName("secondName");
+        StepVerifier.create(userComponent.updateUser(id, request))
+                .expectErrorMatches(throwable -> {
+                    if (throwable instanceof ServiceException exception) {
+                        return exception.getStatus().equals(HttpConstants.FAILED_TO_CONVERT_VALUE_TO_ENUM);
+                    }
+                    return false;
+                }).verify();
+        Mockito.verifyNoInteractions(userPersistenceService);
+
+    }
+
+    @Test
+    public void testUpdateUser_wrongStatus() {
+        long id = 1L;
+        UpdateUserRequest request = new UpdateUserRequest()
+                .setAge(1)
+                .setCardId("card_id")
+                .setDateOfBirth("27-11-1991")
+                .setStatus(321)
+                .setType(UserType.USER.getValue())
+                .setFirstName("firstName")
+                .setSecondName("secondName");
+        StepVerifier.create(userComponent.updateUser(id, request))
+                .expectErrorMatches(throwable -> {
+                    if (throwable instanceof ServiceException exception) {
+                        return exception.getStatus().equals(HttpConstants.FAILED_TO_CONVERT_VALUE_TO_ENUM);
+                    }
+                    return false;
+                }).verify();
+        Mockito.verifyNoInteractions(userPersistenceService);
+
+    }
+
+    @Test
+    public void testGetUser() {
+        long id = 1L;
+        UserCommand findById = new UserCommand()
+                .setId(1L)
+                .setAge(1)
+                .setCardId("card_id")
+                .setDateOfBirth("27-11-1991")
+                .setStatus(UserStatus.ACTIVE)
+                .setType(UserType.USER)
+                .setFirstName("firstName")
+                .setSecondName("secondName")
+                .setLevel(UserLevel.LEVEL_1);
+
+        UserResponse returnConverterToUserResponse = new UserResponse()
+                .setAge(1)
+                .setCardId("card_id")
+                .setDateOfBirth("27-11-1991")
+                .setStatus(UserStatus.ACTIVE.getValue())
+                .setType(UserType.USER.getValue())
+                .setFirstName("firstName")
+                .setSecondName("secondName")
+                .setId(1L)
+                .setLevel(UserLevel.LEVEL_1.getValue());
+
+        ActivityCommand activityCommand = new ActivityCommand()
+                .setActivity("activity")
+                .setAccessibility(1D)
+                .setKey("key")
+                .setLink("link")
+                .setPrice(100)
+                .setType("type")
+                .setParticipants(3);
+
+        ActivityResponse activityResponse = new ActivityResponse()
+                .setActivity("activity")
+                .setAccessibility(1D)
+                .setKey("key")
+                .setLink("link")
+                .setPrice(100)
+                .setType("type")
+                .setParticipants(3);
+
+        Mockito.when(userPersistenceService.findById(id)).thenReturn(Mono.just(findById));
+        Mockito.when(conversionService.convert(findById, UserResponse.class)).thenReturn(returnConverterToUserResponse);
+        Mockito.when(boredapiClientService.getActivity()).thenReturn(Mono.just(activityCommand));
+        Mockito.when(conversionService.convert(activityCommand, ActivityResponse.class)).thenReturn(activityResponse);
+
+        StepVerifier.create(userComponent.getUser(id))
+                .expectNextMatches(result -> result.getAge().equals(1)
+                        && result.getCardId().equals("card_id")
+                        && result.getDateOfBirth().equals("27-11-1991")
+                        && result.getStatus().equals(UserStatus.ACTIVE.getValue())
+                        && result.getType().equals(UserType.USER.getValue())
+                        && result.getFirstName().equals("firstName")
+                        && result.getSecondName().equals("secondName")
+                        && result.getId().equals(1L)
+                        && result.getLevel().equals(UserLevel.LEVEL_1.getValue())
+                        && result.getActivity().getActivity().equals("activity")
+                        && result.getActivity().getAccessibility().equals(1D)
+                        && result.getActivity().getKey().equals("key")
+                        && result.getActivity().getLink().equals("link")
+                        && result.getActivity().getPrice().equals(100)
+                        && result.getActivity().getType().equals("type")
+                        && result.getActivity().getParticipants().equals(3))
+                        .verifyComplete();
+        Mockito.verify(userPersistenceService, Mockito.times(1)).findById(id);
+
+    }
+
+    @Test
+    public void testGetUser_userNotFound() {
+        long id = 1L;
+        PublisherProbe<ActivityCommand> activityProbe = PublisherProbe.of(Mono.never());
+        Mockito.when(userPersistenceService.findById(id)).thenReturn(Mono.empty());
+        Mockito.when(boredapiClientService.getActivity()).thenReturn(activityProbe.mono());
+        StepVerifier.create(userComponent.getUser(id))
+                .expectErrorMatches(throwable -> {
+                    if (throwable instanceof NotFoundException exception) {
+                        return exception.getStatus().equals(HttpConstants.USER_NOT_FOUND);
+                    }
+                    return false;
+                }).verify();
+        Mockito.verify(userPersistenceService, Mockito.times(1)).findById(id);
+        activityProbe.assertWasCancelled();
+
+    }
+
+    @Test
+    public void testGetUser_withoutActivity() {
+        long id = 1L;
+        UserCommand userCommand = new UserCommand().setId(id);
+        UserResponse userResponse = new UserResponse().setId(id);
+
+        Mockito.when(userPersistenceService.findById(id)).thenReturn(Mono.just(userCommand));
+        Mockito.when(boredapiClientService.getActivity()).thenReturn(Mono.empty());
+        Mockito.when(conversionService.convert(userCommand, UserResponse.class)).thenReturn(userResponse);
+
+        StepVerifier.create(userComponent.getUser(id))
+                .expectNextMatches(result -> result == userResponse && result.getActivity() == null)
+                .verifyComplete();
+    }
+
+    @Test
+    public void testGetUser_passthroughActivity() {
+        long id = 1L;
+        UserCommand userCommand = new UserCommand().setId(id);
+        UserResponse userResponse = new UserResponse().setId(id);
+        RawValue raw = new RawValue("{\"key\":\"key\"}");
+
+        Mockito.when(userPersistenceService.findById(id)).thenReturn(Mono.just(userCommand));
+        Mockito.when(boredapiClientService.getActivity()).thenReturn(Mono.just(new ActivityCommand().setRaw(raw)));
+        Mockito.when(conversionService.convert(userCommand, UserResponse.class)).thenReturn(userResponse);
+
+        StepVerifier.create(userComponent.getUser(id))
+                .expectNextMatches(result -> result.getRawActivity() == raw && result.getActivityJson() == raw)
+                .verifyComplete();
+        Mockito.verify(conversionService, Mockito.never()).convert(Mockito.any(ActivityCommand.class), Mockito.eq(ActivityResponse.class));
+    }
+
+    @Test
+    public void testGetUser_callsRunConcurrently() {
+        long id = 1L;
+        UserCommand userCommand = new UserCommand().setId(id);
+        UserResponse userResponse = new UserResponse().setId(id);
+        ActivityCommand activityCommand = new ActivityCommand();
+        ActivityResponse activityResponse = new ActivityResponse();
+
+        Mockito.when(conversionService.convert(userCommand, UserResponse.class)).thenReturn(userResponse);
+        Mockito.when(conversionService.convert(activityCommand, ActivityResponse.class)).thenReturn(activityResponse);
+
+        // each call takes 300ms, done one after the other the response would need 600ms
+        StepVerifier.withVirtualTime(() -> {
+                    Mockito.when(userPersistenceService.findById(id)).thenReturn(Mono.just(userCommand).delayElement(Duration.ofMillis(300)));
+                    Mockito.when(boredapiClientService.getActivity()).thenReturn(Mono.just(activityCommand).delayElement(Duration.ofMillis(300)));
+                    return userComponent.getUser(id);
+                })
+                .expectSubscription()
+                .expectNoEvent(Duration.ofMillis(299))
+                .thenAwait(Duration.ofMillis(1))
+                .expectNextMatches(result -> result == userResponse && result.getActivity() == activityResponse)
+                .verifyComplete();
+    }
+
+    @Test
+    public void testIncludeActivity() {
+        UserProperties.ActivityEnrichment activityEnrichment = new UserProperties.ActivityEnrichment();
+        activityEnrichment.setMaxConcurrency(2);
+        activityEnrichment.setDeadline(1000);
+        activityEnrichment.setMaxPooled(3);
+        Mockito.when(userProperties.getActivityEnrichment()).thenReturn(activityEnrichment);
+        ActivityCommand first = new ActivityCommand().setKey("1");
+        ActivityCommand second = new ActivityCommand().setKey("2");
+        ActivityCommand third = new ActivityCommand().setKey("3");
+        ActivityResponse firstResponse = new ActivityResponse().setKey("1");
+        ActivityResponse secondResponse = new ActivityResponse().setKey("2");
+        ActivityResponse thirdResponse = new ActivityResponse().setKey("3");
+        Mockito.when(conversionService.convert(first, ActivityResponse.class)).thenReturn(firstResponse);
+        Mockito.when(conversionService.convert(second, ActivityResponse.class)).thenReturn(secondResponse);
+        Mockito.when(conversionService.convert(third, ActivityResponse.class)).thenReturn(thirdResponse);
+        List<UserShortResponse> content = List.of(new UserShortResponse().setId(1L), new UserShortResponse().setId(2L), new UserShortResponse().setId(3L));
+
+        // two at a time: the third call starts when the first one ends at 100ms, so the page is ready at 300ms
+        StepVerifier.withVirtualTime(() -> {
+                    Mockito.when(boredapiClientService.getActivity()).thenReturn(
+                            Mono.just(first).delayElement(Duration.ofMillis(100)),
+                            Mono.just(second).delayElement(Duration.ofMillis(300)),
+                            Mono.just(third).delayElement(Duration.ofMillis(200)));
+                    return userComponent.includeActivity(new CustomPage<>(content, 1, 3, 3));
+                })
+                .expectSubscription()
+                .expectNoEvent(Duration.ofMillis(299))
+                .thenAwait(Duration.ofMillis(1))
+                .expectNextMatches(page -> page.getContent().size() == 3
+                        && page.getContent().get(0).getId().equals(1L) && page.getContent().get(0).getActivity() == firstResponse
+                        && page.getContent().get(1).getId().equals(2L) && page.getContent().get(1).getActivity() == secondResponse
+                        && page.getContent().get(2).getId().equals(3L) && page.getContent().get(2).getActivity() == thirdResponse
+                        && page.getTotalElements() == 3)
+                .verifyComplete();
+    }
+
+    @Test
+    public void testIncludeActivity_poolTakesBoundedPerPage() {
+        UserProperties.ActivityEnrichment activityEnrichment = new UserProperties.ActivityEnrichment();
+        activityEnrichment.setMaxConcurrency(2);
+        activityEnrichment.setDeadline(1000);
+        activityEnrichment.setMaxPooled(1);
+        Mockito.when(userProperties.getActivityEnrichment()).thenReturn(activityEnrichment);
+        ActivityCommand pooled = new ActivityCommand().setKey("pooled");
+        ActivityCommand cached = new ActivityCommand().setKey("cached");
+        ActivityResponse pooledResponse = new ActivityResponse().setKey("pooled");
+        ActivityResponse cachedResponse = new ActivityResponse().setKey("cached");
+        Mockito.when(conversionService.convert(pooled, ActivityResponse.class)).thenReturn(pooledResponse);
+        Mockito.when(conversionService.convert(cached, ActivityResponse.class)).thenReturn(cachedResponse);
+        Mockito.when(boredapiClientService.getActivity()).thenReturn(Mono.just(pooled));
+        Mockito.when(boredapiClientService.getCachedActivity()).thenReturn(Mono.just(cached));
+        List<UserShortResponse> content = List.of(new UserShortResponse().setId(1L), new UserShortResponse().setId(2L), new UserShortResponse().setId(3L));
+
+        StepVerifier.create(userComponent.includeActivity(new CustomPage<>(content, 1, 3, 3)))
+                .expectNextMatches(page -> page.getContent().get(0).getActivity() == pooledResponse
+                        && page.getContent().get(1).getActivity() == cachedResponse
+                        && page.getContent().get(2).getActivity() == cachedResponse)
+                .verifyComplete();
+        Mockito.verify(boredapiClientService, Mockito.times(1)).getActivity();
+        Mockito.verify(boredapiClientService, Mockito.times(2)).getCachedActivity();
+    }
+
+    @Test
+    public void testIncludeActivity_deadline() {
+        UserProperties.ActivityEnrichment activityEnrichment = new UserProperties.ActivityEnrichment();
+        activityEnrichment.setMaxConcurrency(2);
+        activityEnrichment.setDeadline(500);
+        activityEnrichment.setMaxPooled(3);
+        Mockito.when(userProperties.getActivityEnrichment()).thenReturn(activityEnrichment);
+        ActivityCommand first = new ActivityCommand().setKey("1");
+        ActivityResponse firstResponse = new ActivityResponse().setKey("1");
+        Mockito.when(conversionService.convert(first, ActivityResponse.class)).thenReturn(firstResponse);
+        List<UserShortResponse> content = List.of(new UserShortResponse().setId(1L), new UserShortResponse().setId(2L), new UserShortResponse().setId(3L));
+
+        StepVerifier.withVirtualTime(() -> {
+                    Mockito.when(boredapiClientService.getActivity()).thenReturn(
+                            Mono.just(first).delayElement(Duration.ofMillis(100)),
+                            Mono.error(new IllegalStateException("boom")),
+                            Mono.never());
+                    return userComponent.includeActivity(new CustomPage<>(content, 1, 3, 3));
+                })
+                .expectSubscription()
+                .expectNoEvent(Duration.ofMillis(499))
+                .thenAwait(Duration.ofMillis(1))
+                .expectNextMatches(page -> page.getContent().size() == 3
+                        && page.getContent().get(0).getActivity() == firstResponse
+                        && page.getContent().get(1).getActivityJson() == null
+                        && page.getContent().get(2).getActivityJson() == null)
+                .verifyComplete();
+    }
+
+    @Test
+    public void testIncludeActivity_noActivityTakenAfterDeadline() {
+        UserProperties.ActivityEnrichment activityEnrichment = new UserProperties.ActivityEnrichment();
+        activityEnrichment.setMaxConcurrency(1);
+        activityEnrichment.setDeadline(500);
+        activityEnrichment.setMaxPooled(3);
+        Mockito.when(userProperties.getActivityEnrichment()).thenReturn(activityEnrichment);
+        List<UserShortResponse> content = List.of(new UserShortResponse().setId(1L), new UserShortResponse().setId(2L), new UserShortResponse().setId(3L));
+
+        // one at a time: the first item holds the only slot until the deadline, the others come after it
+        StepVerifier.withVirtualTime(() -> {
+                    Mockito.when(boredapiClientService.getActivity()).thenReturn(Mono.never());
+                    return userComponent.includeActivity(new CustomPage<>(content, 1, 3, 3));
+                })
+                .expectSubscription()
+                .thenAwait(Duration.ofMillis(500))
+                .expectNextMatches(page -> page.getContent().size() == 3
+                        && page.getContent().stream().allMatch(item -> item.getActivityJson() == null))
+                .verifyComplete();
+        Mockito.verify(boredapiClientService, Mockito.times(1)).getActivity();
+    }
+
+    @Test
+    public void testGetUserList() {
+        PageRequest pageRequest = PageRequest.of(1, 10);
+        UserShortEntity userShortEntity = new UserShortEntity()
+                .setId(1L)
+                .setCardId("card_id")
+                .setStatus(UserStatus.ACTIVE.getValue())
+                .setType(UserType.USER.getValue())
+                .setFirstName("firstName")
+                .setSecondName("secondName");
+
+        CustomPage<UserShortEntity> customPage = new CustomPage<UserShortEntity>()
+                .setContent(Collections.singletonList(userShortEntity))
+                .setSize(1)
+                .setNumber(1)
+                .setTotalElements(1);
+
+        UserShortResponse returnConverterToUserShortResponse = new UserShortResponse()
+                .setId(1L)
+                .setCardId("card_id")
+                .setStatus(UserStatus.ACTIVE.getValue())
+                .setType(UserType.USER.getValue())
+                .setFirstName("firstName")
+                .setSecondName("secondName");
+
+        Mockito.when(userPersistenceService.findAll(pageRequest)).thenReturn(Mono.just(customPage));
+        Mockito.when(conversionService.convert(userShortEntity, UserShortResponse.class)).thenReturn(returnConverterToUserShortResponse);
+
+        StepVerifier.create(userComponent.getUserList(pageRequest))
+                .expectNextMatches(userShortResponseCustomPage -> {
+                    UserShortResponse userShortResponse1 = userShortResponseCustomPage.getContent().get(0);
+
+                    return userShortResponse1.getCardId().equals("card_id")
+                            && userShortResponse1.getStatus().equals(UserStatus.ACTIVE.getValue())
+                            && userShortResponse1.getType().equals(UserType.USER.getValue())
+                            && userShortResponse1.getFirstName().equals("firstName")
+                            && userShortResponse1.getSecondName().equals("secondName")
+                            && userShortResponse1.getId().equals(1L)
+                            && userShortResponseCustomPage.getContent().size() == 1
+                            && userShortResponseCustomPage.getSize() == 1
+                            && userShortResponseCustomPage.getTotalElements() == 1;
+                }).verifyComplete();
+        Mockito.verify(userPersistenceService, Mockito.times(1)).findAll(pageRequest);
+
+    }
+
+    @Test
+    public void testGetUserListAfter() {
+        UserShortEntity userShortEntity = new UserShortEntity()
+                .setId(1L);
+
+        CustomPage<UserShortEntity> customPage = new CustomPage<UserShortEntity>()
+                .setContent(Collections.singletonList(userShortEntity))
+                .setSize(1)
+                .setNextCursor("cursor");
+
+        UserShortResponse returnConverterToUserShortResponse = new UserShortResponse()
+                .setId(1L);
+
+        Mockito.when(userPersistenceService.findAllAfter("after", 1)).thenReturn(Mono.just(customPage));
+        Mockito.when(conversionService.convert(userShortEntity, UserShortResponse.class)).thenReturn(returnConverterToUserShortResponse);
+
+        StepVerifier.create(userComponent.getUserListAfter("after", 1))
+                .expectNextMatches(userShortResponseCustomPage -> userShortResponseCustomPage.getContent().get(0).getId().equals(1L)
+                        && userShortResponseCustomPage.getSize() == 1
+                        && userShortResponseCustomPage.getTotalElements() == null
+                        && userShortResponseCustomPage.getNextCursor().equals("cursor"))
+                .verifyComplete();
+        Mockito.verify(userPersistenceService, Mockito.times(1)).findAllAfter("after", 1);
+    }
+
+    @Test
+    public void testStreamUsers() {
+        UserCommand userCommand1 = new UserCommand().setId(1L);
+        UserCommand userCommand2 = new UserCommand().setId(2L);
+        UserResponse userResponse1 = new UserResponse().setId(1L);
+        UserResponse userResponse2 = new UserResponse().setId(2L);
+
+        Mockito.when(userPersistenceService.streamAll()).thenReturn(Flux.just(userCommand1, userCommand2));
+        Mockito.when(conversionService.convert(userCommand1, UserResponse.class)).thenReturn(userResponse1);
+        Mockito.when(conversionService.convert(userCommand2, UserResponse.class)).thenReturn(userResponse2);
+
+        StepVerifier.create(userComponent.streamUsers())
+                .expectNextMatches(result -> result.getId().equals(1L))
+                .expectNextMatches(result -> result.getId().equals(2L))
+                .verifyComplete();
+        Mockito.verify(userPersistenceService, Mockito.times(1)).streamAll();
+        Mockito.verifyNoInteractions(boredapiClientService);
+    }
+
+    @Test
+    public void deleteUser() {
+        long id = 1L;
+        Mockito.when(userPersistenceService.delete(id)).thenReturn(Mono.empty());
+        StepVerifier.create(userComponent.deleteUser(id))
+                .verifyComplete();
+        Mockito.verify(userPersistenceService, Mockito.times(1)).delete(id);
+
+    }
+
+    @Test
+    public void createUsers() {
+        mockBatchMaxSize(10);
+        CreateUserRequest valid = new CreateUserRequest();
+        CreateUserRequest invalid = new CreateUserRequest();
+        UserCommand userCommand = new UserCommand();
+
+        Mockito.when(validator.validate(invalid))
+                .thenThrow(new ValidationException(InvalidRequestException.of(HttpConstants.AGE_IS_REQUIRED)));
+        Mockito.when(conversionService.convert(valid, UserCommand.class)).thenReturn(userCommand);
+        Mockito.when(userPersistenceService.saveAll(List.of(userCommand)))
+                .thenReturn(Mono.just(List.of(new UserCommand().setId(5L))));
+
+        StepVerifier.create(userComponent.createUsers(List.of(invalid, valid)))
+                .expectNextMatches(items -> items.size() == 2
+                        && items.get(0).getId() == null
+                        && items.get(0).getStatus().getCode().equals(HttpConstants.AGE_IS_REQUIRED.getCode())
+                        && items.get(1).getId().equals(5L)
+                        && items.get(1).getStatus().getCode().equals(HttpConstants.SUCCESS.getCode()))
+                .verifyComplete();
+        assertThat(userCommand.getLevel()).isEqualTo(UserLevel.LEVEL_1);
+    }
+
+    @Test
+    public void createUsers_generatedValidator() {
+        mockBatchMaxSize(10);
+        CreateUserRequest valid = new CreateUserRequest()
+                .setCardId("cardId")
+                .setFirstName("firstName")
+                .setSecondName("secondName")
+                .setType(UserType.USER.getValue())
+                .setStatus(UserStatus.ACTIVE.getValue())
+                .setDateOfBirth("1991-11-11")
+                .setAge(18)
+                .setMobileNumber("12345678901")
+                .setMobileBrand("Apple");
+        CreateUserRequest invalid = new CreateUserRequest();
+        UserCommand userCommand = new UserCommand();
+
+        Mockito.when(requestValidators.find(CreateUserRequest.class)).thenReturn(new CreateUserRequestValidator());
+        Mockito.when(conversionService.convert(valid, UserCommand.class)).thenReturn(userCommand);
+        Mockito.when(userPersistenceService.saveAll(List.of(userCommand)))
+                .thenReturn(Mono.just(List.of(new UserCommand().setId(5L))));
+
+        StepVerifier.create(userComponent.createUsers(List.of(invalid, valid)))
+                .expectNextMatches(items -> items.get(0).getStatus().getCode().equals(HttpConstants.CARD_ID_IS_REQUIRED.getCode())
+                        && items.get(1).getId().equals(5L)
+                        && items.get(1).getStatus().getCode().equals(HttpConstants.SUCCESS.getCode()))
+                .verifyComplete();
+        Mockito.verifyNoInteractions(validator);
+    }
+
+    @Test
+    public void createUsers_batchSizeIsInvalid() {
+        mockBatchMaxSize(1);
+        StepVerifier.create(userComponent.createUsers(List.of(new CreateUserRequest(), new CreateUserRequest())))
+                .expectErrorMatches(throwable -> throwable instanceof InvalidRequestException exception
+                        && exception.getStatus() == HttpConstants.BATCH_SIZE_IS_INVALID)
+                .verify();
+        StepVerifier.create(userComponent.createUsers(List.of()))
+                .expectError(InvalidRequestException.class)
+                .verify();
+        Mockito.verifyNoInteractions(userPersistenceService);
+    }
+
+    @Test
+    public void createUsers_noValidItems() {
+        mockBatchMaxSize(10);
+        CreateUserRequest invalid = new CreateUserRequest();
+        Mockito.when(validator.validate(invalid))
+                .thenThrow(new ValidationException(InvalidRequestException.of(HttpConstants.CARD_ID_IS_REQUIRED)));
+
+        StepVerifier.create(userComponent.createUsers(List.of(invalid)))
+                .expectNextMatches(items -> items.get(0).getStatus().getCode().equals(HttpConstants.CARD_ID_IS_REQUIRED.getCode()))
+                .verifyComplete();
+        Mockito.verifyNoInteractions(userPersistenceService);
+    }
+
+    @Test
+    public void updateUsers() {
+        mockBatchMaxSize(10);
+        BatchUpdateUserRequest found = new BatchUpdateUserRequest().setId(1L);
+        found.setFirstName("firstName");
+        BatchUpdateUserRequest missing = new BatchUpdateUserRequest().setId(2L);
+        missing.setAge(20);
+
+        Mockito.when(userPersistenceService.updateAll(Mockito.anyList())).then(invocationOnMock -> {
+            List<UserCommand> changes = invocationOnMock.getArgument(0);
+            assertThat(changes).extracting(UserCommand::getId).containsExactly(1L, 2L);
+            assertThat(changes.get(0).getFirstName()).isEqualTo("firstName");
+            assertThat(changes.get(1).getAge()).isEqualTo(20);
+            return Mono.just(List.of(true, false));
+        });
+
+        StepVerifier.create(userComponent.updateUsers(List.of(found, missing)))
+                .expectNextMatches(items -> items.get(0).getId().equals(1L)
+                        && items.get(0).getStatus().getCode().equals(HttpConstants.SUCCESS.getCode())
+                        && items.get(1).getId().equals(2L)
+                        && items.get(1).getStatus().getCode().equals(HttpConstants.USER_NOT_FOUND.getCode()))
+                .verifyComplete();
+    }
+
+    @Test
+    public void deleteUsers() {
+        mockBatchMaxSize(10);
+        Mockito.when(userPersistenceService.deleteAll(List.of(1L, 2L))).thenReturn(Mono.just(List.of(1L)));
+
+        StepVerifier.create(userComponent.deleteUsers(Arrays.asList(1L, null, 2L)))
+                .expectNextMatches(items -> items.stream().map(BatchItemResponse::getId).collect(Collectors.toList()).equals(Arrays.asList(1L, null, 2L))
+                        && items.get(0).getStatus().getCode().equals(HttpConstants.SUCCESS.getCode())
+                        && items.get(1).getStatus().getCode().equals(HttpConstants.BAD_REQUEST.getCode())
+                        && items.get(2).getStatus().getCode().equals(HttpConstants.USER_NOT_FOUND.getCode()))
+                .verifyComplete();
+    }
+
+    @Test
+    public void importUsers_ndjson() {
+        mockImportBatchSize(2);
+        Mockito.when(conversionService.convert(Mockito.any(CreateUserRequest.class), Mockito.eq(UserCommand.class)))
+                .then(invocationOnMock -> new UserCommand().setCardId(invocationOnMock.<CreateUserRequest>getArgument(0).getCardId()));
+        Mockito.when(userPersistenceService.saveAll(Mockito.anyList()))
+                .then(invocationOnMock -> Mono.just(invocationOnMock.getArgument(0)));
+
+        Flux<DataBuffer> body = dataBuffers("{\"card_id\": \"1\"}\n{\"card_", "id\": \"2\"}\r\n\nnot json\n{\"card_id\": \"3\"}");
+
+        StepVerifier.create(userComponent.importUsers(body, false))
+                .expectNextMatches(progress -> progress.getProcessed() == 2
+                        && progress.getImported() == 2
+                        && progress.getErrors().isEmpty()
+                        && !progress.isDone())
+                .expectNextMatches(progress -> progress.getProcessed() == 4
+                        && progress.getImported() == 3
+                        && progress.getFailed() == 1
+                        && progress.getErrors().get(0).getIndex() == 2
+                        && progress.getErrors().get(0).getStatus().getCode().equals(HttpConstants.RECORD_IS_INVALID.getCode()))
+                .expectNextMatches(progress -> progress.isDone()
+                        && progress.getProcessed() == 4
+                        && progress.getImported() == 3)
+                .verifyComplete();
+        Mockito.verify(userPersistenceService, Mockito.times(1)).saveAll(Mockito.argThat(userCommands -> userCommands.size() == 2
+                && userCommands.get(0).getCardId().equals("1")
+                && userCommands.get(1).getCardId().equals("2")
+                && userCommands.get(0).getLevel() == UserLevel.LEVEL_1));
+        Mockito.verify(userPersistenceService, Mockito.times(1)).saveAll(Mockito.argThat(userCommands -> userCommands.size() == 1
+                && userCommands.get(0).getCardId().equals("3")));
+    }
+
+    @Test
+    public void importUsers_csv() {
+        mockImportBatchSize(10);
+        Mockito.when(validator.validate(Mockito.any(CreateUserRequest.class))).then(invocationOnMock -> {
+            if (invocationOnMock.<CreateUserRequest>getArgument(0).getAge() == null) {
+                throw new ValidationException(InvalidRequestException.of(HttpConstants.AGE_IS_REQUIRED));
+            }
+            return Collections.emptySet();
+        });
+        Mockito.when(conversionService.convert(Mockito.any(CreateUserRequest.class), Mockito.eq(UserCommand.class)))
+                .then(invocationOnMock -> {
+                    CreateUserRequest request = invocationOnMock.getArgument(0);
+                    return new UserCommand().setFirstName(request.getFirstName()).setAge(request.getAge());
+                });
+        Mockito.when(userPersistenceService.saveAll(Mockito.anyList()))
+                .then(invocationOnMock -> Mono.just(invocationOnMock.getArgument(0)));
+
+        Flux<DataBuffer> body = dataBuffers("card_id,first_name,age\n1,\"Doe, \"\"J\"\"\",20\n2,Roe,\n");
+
+        StepVerifier.create(userComponent.importUsers(body, true))
+                .expectNextMatches(progress -> progress.getProcessed() == 2
+                        && progress.getImported() == 1
+                        && progress.getErrors().get(0).getIndex() == 1
+                        && progress.getErrors().get(0).getStatus().getCode().equals(HttpConstants.AGE_IS_REQUIRED.getCode()))
+                .expectNextMatches(ImportProgressResponse::isDone)
+                .verifyComplete();
+        Mockito.verify(userPersistenceService, Mockito.times(1)).saveAll(Mockito.argThat(userCommands -> userCommands.size() == 1
+                && userCommands.get(0).getFirstName().equals("Doe, \"J\"")
+                && userCommands.get(0).getAge() == 20));
+    }
+
+    @Test
+    public void testGenerateRSA_fromPool() throws Exception {
+        KeyPair keyPair = CryptoUtils.generateKeyPair("EC", new ECGenParameterSpec("secp256r1"));
+        Mockito.when(userPersistenceService.findById(1L)).thenReturn(Mono.just(new UserCommand().setId(1L)));
+        Mockito.when(keyPairPoolService.poll(KeyAlgorithm.RSA_2048)).thenReturn(keyPair);
+
+        StepVerifier.create(userComponent.generateRSA(1L, "rsa-2048"))
+                .expectNext(Base64.getEncoder().encodeToString(keyPair.getPrivate().getEncoded()))
+                .verifyComplete();
+    }
+
+    @Test
+    public void testGenerateRSA_emptyPool() throws Exception {
+        KeyPair keyPair = CryptoUtils.generateKeyPair("EC", new ECGenParameterSpec("secp256r1"));
+        Mockito.when(userPersistenceService.findById(1L)).thenReturn(Mono.just(new UserCommand().setId(1L)));
+        Mockito.when(keyPairPoolService.poll(KeyAlgorithm.RSA_2048)).thenReturn(null);
+        Mockito.when(cryptoExecutorService.<KeyPair>execute(Mockito.any())).thenReturn(Mono.just(keyPair));
+
+        StepVerifier.create(userComponent.generateRSA(1L, "rsa-2048"))
+                .expectNext(Base64.getEncoder().encodeToString(keyPair.getPrivate().getEncoded()))
+                .verifyComplete();
+    }
+
+    @Test
+    public void testGenerateRSA_otherAlgorithm() throws Exception {
+        KeyPair keyPair = CryptoUtils.generateKeyPair("Ed25519", NamedParameterSpec.ED25519);
+        Mockito.when(userPersistenceService.findById(1L)).thenReturn(Mono.just(new UserCommand().setId(1L)));
+        Mockito.when(keyPairPoolService.poll(KeyAlgorithm.ED25519)).thenReturn(null);
+        Mockito.when(cryptoExecutorService.<KeyPair>execute(Mockito.any()))
+                .then(invocationOnMock -> Mono.fromCallable(invocationOnMock.<Callable<KeyPair>>getArgument(0)));
+        Mockito.when(keyGenerationService.generate(KeyAlgorithm.ED25519)).thenReturn(keyPair);
+
+        StepVerifier.create(userComponent.generateRSA(1L, "ed25519"))
+                .expectNext(Base64.getEncoder().encodeToString(keyPair.getPrivate().getEncoded()))
+                .verifyComplete();
+    }
+
+    @Test
+    public void testGenerateRSA_invalidAlgorithm() {
+        StepVerifier.create(userComponent.generateRSA(1L, "dsa"))
+                .expectErrorMatches(throwable -> throwable instanceof InvalidRequestException exception
+                        && exception.getStatus() == HttpConstants.KEY_ALGORITHM_IS_INVALID)
+                .verify();
+        Mockito.verifyNoInteractions(userPersistenceService, keyPairPoolService, cryptoExecutorService);
+    }
+
+    @Test
+    public void testGenerateRSA_executorBusy() {
+        Mockito.when(userPersistenceService.findById(1L)).thenReturn(Mono.just(new UserCommand().setId(1L)));
+        Mockito.when(keyPairPoolService.poll(KeyAlgorithm.RSA_2048)).thenReturn(null);
+        Mockito.when(cryptoExecutorService.<KeyPair>execute(Mockito.any()))
+                .thenReturn(Mono.error(TooManyRequestsException.of(HttpConstants.TOO_MANY_REQUESTS)));
+
+        StepVerifier.create(userComponent.generateRSA(1L, "rsa-2048"))
+                .expectError(TooManyRequestsException.class)
+                .verify();
+    }
+
+    @Test
+    public void testGenerateRSA_userNotFound() {
+        Mockito.when(userPersistenceService.findById(1L)).thenReturn(Mono.empty());
+
+        StepVerifier.create(userComponent.generateRSA(1L, "rsa-2048"))
+                .expectError(NotFoundException.class)
+                .verify();
+        Mockito.verifyNoInteractions(keyPairPoolService);
+    }
+
+    private Flux<DataBuffer> dataBuffers(String... chunks) {
+        return Flux.fromArray(chunks)
+                .map(chunk -> DefaultDataBufferFactory.sharedInstance.wrap(chunk.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private void mockImportBatchSize(int batchSize) {
+        UserProperties.Import importing = new UserProperties.Import();
+        importing.setBatchSize(batchSize);
+        Mockito.when(userProperties.getImporting()).thenReturn(importing);
+    }
+
+    @Test
+    public void testGenerateKeys() throws Exception {
+        mockBatchMaxSize(10);
+        KeyPair keyPair = CryptoUtils.generateKeyPair("EC", new ECGenParameterSpec("secp256r1"));
+        Mockito.when(cryptoExecutorService.getParallelism()).thenReturn(2);
+        Mockito.when(userPersistenceService.findById(1L)).thenReturn(Mono.just(new UserCommand().setId(1L)));
+        Mockito.when(userPersistenceService.findById(2L)).thenReturn(Mono.empty());
+        Mockito.when(userPersistenceService.findById(3L)).thenReturn(Mono.just(new UserCommand().setId(3L)));
+        Mockito.when(cryptoExecutorService.<KeyPair>execute(Mockito.any()))
+                .thenReturn(Mono.just(keyPair))
+                .thenReturn(Mono.error(TooManyRequestsException.of(HttpConstants.TOO_MANY_REQUESTS)));
+
+        List<GeneratedKeyResponse> items = userComponent.generateKeys(Arrays.asList(1L, null, 2L, 3L), "ec-p256")
+                .collectSortedList(Comparator.comparingInt(GeneratedKeyResponse::getIndex))
+                .block();
+
+        assertThat(items).extracting(GeneratedKeyResponse::getId).containsExactly(1L, null, 2L, 3L);
+        assertThat(items).extracting(item -> item.getStatus().getCode()).containsExactly(HttpConstants.SUCCESS.getCode(),
+                HttpConstants.BAD_REQUEST.getCode(), HttpConstants.USER_NOT_FOUND.getCode(), HttpConstants.TOO_MANY_REQUESTS.getCode());
+        assertThat(items.get(0).getPrivateKey()).isEqualTo(Base64.getEncoder().encodeToString(keyPair.getPrivate().getEncoded()));
+        assertThat(items.get(3).getPrivateKey()).isNull();
+        Mockito.verifyNoInteractions(keyPairPoolService);
+    }
+
+    @Test
+    public void testGenerateKeys_invalidAlgorithm() {
+        StepVerifier.create(userComponent.generateKeys(List.of(1L), "dsa"))
+                .expectError(InvalidRequestException.class)
+                .verify();
+        Mockito.verifyNoInteractions(userPersistenceService, cryptoExecutorService);
+    }
+
+    @Test
+    public void testGenerateKeys_invalidBatchSize() {
+        mockBatchMaxSize(1);
+
+        StepVerifier.create(userComponent.generateKeys(List.of(1L, 2L), "rsa-2048"))
+                .expectErrorMatches(throwable -> throwable instanceof InvalidRequestException exception
+                        && exception.getStatus() == HttpConstants.BATCH_SIZE_IS_INVALID)
+                .verify();
+        Mockito.verifyNoInteractions(userPersistenceService, cryptoExecutorService);
+    }
+
+    private void mockBatchMaxSize(int maxSize) {
+        UserProperties.Batch batch = new UserProperties.Batch();
+        batch.setMaxSize(maxSize);
+        Mockito.when(userProperties.getBatch()).thenReturn(batch);
+    }
+
+}
@@ -1,15 +1,24 @@
 package com.phoosop.reactive.controller;
 
+import com.fasterxml.jackson.databind.util.RawValue;
 import com.phoosop.reactive.component.UserComponent;
+import com.phoosop.reactive.exception.InvalidRequestException;
 import com.phoosop.reactive.exception.NotFoundException;
 import com.phoosop.reactive.exception.ServiceException;
+import com.phoosop.reactive.exception.TooManyRequestsException;
 import com.phoosop.reactive.model.CustomPage;
+import com.phoosop.reactive.model.RawJson;
 import com.phoosop.reactive.model.Response;
+import com.phoosop.reactive.model.Status;
 import com.phoosop.reactive.model.enums.UserLevel;
 import com.phoosop.reactive.model.enums.UserStatus;
 import com.phoosop.reactive.model.enums.UserType;
 import com.phoosop.reactive.model.request.CreateUserRequest;
 import com.phoosop.reactive.model.request.UpdateUserRequest;
+import com.phoosop.reactive.model.response.ActivityResponse;
+import com.phoosop.reactive.model.response.BatchItemResponse;
+import com.phoosop.reactive.model.response.GeneratedKeyResponse;
+import com.phoosop.reactive.model.response.ImportProgressResponse;
 import com.phoosop.reactive.model.response.UserResponse;
 import com.phoosop.reactive.model.response.UserShortResponse;
 import org.junit.jupiter.api.DisplayName;
@@ -20,13 +29,20 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.reactive.server.WebTestClient;
 import org.springframework.web.reactive.function.BodyInserters;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 import static com.phoosop.reactive.exception.StatusConstants.HttpConstants;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -108,7 +124,7 @@ class UserControllerTest {
                 .setMobileBrand("Apple");
 
         Mockito.when(userComponent.createUser(Mockito.any(CreateUserRequest.class)))
-                .thenThrow(new ServiceException(HttpConstants.FAILED_TO_CONVERT_VALUE_TO_ENUM));
+                .thenThrow(ServiceException.of(HttpConstants.FAILED_TO_CONVERT_VALUE_TO_ENUM));
 
         ParameterizedTypeReference<Response> typeReference = new ParameterizedTypeReference<Response>() {
         };
@@ -719,7 +735,7 @@ class UserControllerTest {
                 .setMobileBrand("Apple");
 
         Mockito.when(userComponent.updateUser(Mockito.eq(1L), Mockito.any(UpdateUserRequest.class)))
-                .thenThrow(new ServiceException(HttpConstants.FAILED_TO_CONVERT_VALUE_TO_ENUM));
+                .thenThrow(ServiceException.of(HttpConstants.FAILED_TO_CONVERT_VALUE_TO_ENUM));
 
         ParameterizedTypeReference<Response<UserResponse>> typeReference = new ParameterizedTypeReference<Response<UserResponse>>() {
         };
@@ -757,7 +773,7 @@ class UserControllerTest {
                 .setMobileBrand("Apple");
 
         Mockito.when(userComponent.updateUser(Mockito.eq(1L), Mockito.any(UpdateUserRequest.class)))
-                .thenThrow(new NotFoundException(HttpConstants.USER_NOT_FOUND));
+                .thenThrow(NotFoundException.of(HttpConstants.USER_NOT_FOUND));
 
         ParameterizedTypeReference<Response<UserResponse>> typeReference = new ParameterizedTypeReference<Response<UserResponse>>() {
         };
@@ -1034,12 +1050,52 @@ class UserControllerTest {
         assertThat(actualResponse.getData().getAge()).isEqualTo(18);
     }
 
+    @Test
+    @DisplayName("Get user - passthrough activity")
+    public void testGetUser_passthroughActivity() {
+        UserResponse userResponse = new UserResponse()
+                .setId(1L)
+                .setRawActivity(new RawValue(new RawJson("{\"activity\":\"Learn Express.js\",\"extra\":[1,2]}".getBytes(StandardCharsets.UTF_8))));
+
+        Mockito.when(userComponent.getUser(Mockito.eq(1L)))
+                .thenReturn(Mono.just(userResponse));
+
+        webTestClient.get().uri("/v1/users/1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.data.id").isEqualTo(1)
+                .jsonPath("$.data.activity.activity").isEqualTo("Learn Express.js")
+                .jsonPath("$.data.activity.extra[1]").isEqualTo(2)
+                .jsonPath("$.data.activity_json").doesNotExist()
+                .jsonPath("$.data.raw_activity").doesNotExist();
+    }
+
+    @Test
+    @DisplayName("Get user - typed activity")
+    public void testGetUser_typedActivity() {
+        UserResponse userResponse = new UserResponse()
+                .setId(1L)
+                .setActivity(new ActivityResponse().setKey("key"));
+
+        Mockito.when(userComponent.getUser(Mockito.eq(1L)))
+                .thenReturn(Mono.just(userResponse));
+
+        webTestClient.get().uri("/v1/users/1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.data.activity.key").isEqualTo("key")
+                .jsonPath("$.data.activity_json").doesNotExist()
+                .jsonPath("$.data.raw_activity").doesNotExist();
+    }
+
     @Test
     @DisplayName("Get user - NotFoundException")
     public void testGetUser_NotFoundException() throws Exception {
 
         Mockito.when(userComponent.getUser(Mockito.eq(1L)))
-                .thenThrow(new NotFoundException(HttpConstants.USER_NOT_FOUND));
+                .thenThrow(NotFoundException.of(HttpConstants.USER_NOT_FOUND));
 
         ParameterizedTypeReference<Response<UserResponse>> typeReference = new ParameterizedTypeReference<Response<UserResponse>>() {
         };
@@ -1063,7 +1119,7 @@ class UserControllerTest {
     @DisplayName("Get user - ServiceException")
     public void testGetUser_ServiceException() throws Exception {
         Mockito.when(userComponent.getUser(Mockito.eq(1L)))
-                .thenThrow(new ServiceException(HttpConstants.FAILED_TO_CONVERT_VALUE_TO_ENUM));
+                .thenThrow(ServiceException.of(HttpConstants.FAILED_TO_CONVERT_VALUE_TO_ENUM));
 
         ParameterizedTypeReference<Response<UserResponse>> typeReference = new ParameterizedTypeReference<Response<UserResponse>>() {
         };
@@ -1163,12 +1219,134 @@ class UserControllerTest {
         assertThat(actualResponse.getData().getContent().get(1).getStatus()).isEqualTo(UserStatus.ACTIVE.getValue());
     }
 
+    @Test
+    @DisplayName("Get user list - include activity")
+    public void testGetUserList_includeActivity() {
+        UserShortResponse withActivity = new UserShortResponse()
+                .setId(1L)
+                .setActivity(new ActivityResponse().setKey("key"));
+        UserShortResponse withoutActivity = new UserShortResponse()
+                .setId(2L);
+        CustomPage<UserShortResponse> page = new CustomPage<>(Arrays.asList(new UserShortResponse().setId(1L), withoutActivity), 1, 2, 2);
+
+        Mockito.when(userComponent.getUserList(Mockito.any()))
+                .thenReturn(Mono.just(page));
+        Mockito.when(userComponent.includeActivity(page))
+                .thenReturn(Mono.just(new CustomPage<>(Arrays.asList(withActivity, withoutActivity), 1, 2, 2)));
+
+        webTestClient.get().uri("/v1/users?include=activity")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.data.content[0].activity.key").isEqualTo("key")
+                .jsonPath("$.data.content[1].id").isEqualTo(2)
+                .jsonPath("$.data.content[1].activity").doesNotExist();
+
+        Mockito.verify(userComponent, Mockito.times(1)).includeActivity(page);
+    }
+
+    @Test
+    @DisplayName("Get user list - without include")
+    public void testGetUserList_withoutInclude() {
+        Mockito.when(userComponent.getUserListAfter(Mockito.eq("after"), Mockito.eq(10)))
+                .thenReturn(Mono.just(new CustomPage<UserShortResponse>().setContent(List.of(new UserShortResponse().setId(1L)))));
+
+        webTestClient.get().uri("/v1/users?after=after")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.data.content[0].id").isEqualTo(1)
+                .jsonPath("$.data.content[0].activity").doesNotExist();
+
+        Mockito.verify(userComponent, Mockito.never()).includeActivity(Mockito.any());
+    }
+
+    @Test
+    @DisplayName("Get user list after cursor - success")
+    public void testGetUserListAfter_success() throws Exception {
+        UserShortResponse userShortResponse = new UserShortResponse()
+                .setId(1L)
+                .setCardId("cardId");
+
+        Mockito.when(userComponent.getUserListAfter("cursor", 1))
+                .thenReturn(Mono.just(new CustomPage<UserShortResponse>()
+                        .setContent(Collections.singletonList(userShortResponse))
+                        .setSize(1)
+                        .setNextCursor("nextCursor")));
+
+        ParameterizedTypeReference<Response<CustomPage<UserShortResponse>>> typeReference = new ParameterizedTypeReference<Response<CustomPage<UserShortResponse>>>() {
+        };
+
+        Response<CustomPage<UserShortResponse>> actualResponse = webTestClient.get().uri("/v1/users?after=cursor&size=1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(typeReference)
+                .returnResult()
+                .getResponseBody();
+
+        Mockito.verify(userComponent, Mockito.times(1)).getUserListAfter("cursor", 1);
+        Mockito.verify(userComponent, Mockito.never()).getUserList(Mockito.any());
+
+        assertThat(actualResponse.getStatus().getCode()).isEqualTo(HttpConstants.SUCCESS.getCode());
+        assertThat(actualResponse.getData().getSize()).isEqualTo(1);
+        assertThat(actualResponse.getData().getTotalElements()).isNull();
+        assertThat(actualResponse.getData().getNextCursor()).isEqualTo("nextCursor");
+        assertThat(actualResponse.getData().getContent().get(0).getId()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Get user list without count - success")
+    public void testGetUserListWithoutCount_success() throws Exception {
+        Mockito.when(userComponent.getUserListWithoutCount(Mockito.any()))
+                .thenReturn(Mono.just(new CustomPage<UserShortResponse>()
+                        .setContent(Collections.emptyList())
+                        .setNumber(1)));
+
+        ParameterizedTypeReference<Response<CustomPage<UserShortResponse>>> typeReference = new ParameterizedTypeReference<Response<CustomPage<UserShortResponse>>>() {
+        };
+
+        Response<CustomPage<UserShortResponse>> actualResponse = webTestClient.get().uri("/v1/users?count=false")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(typeReference)
+                .returnResult()
+                .getResponseBody();
+
+        Mockito.verify(userComponent, Mockito.times(1)).getUserListWithoutCount(Mockito.any());
+        Mockito.verify(userComponent, Mockito.never()).getUserList(Mockito.any());
+
+        assertThat(actualResponse.getStatus().getCode()).isEqualTo(HttpConstants.SUCCESS.getCode());
+        assertThat(actualResponse.getData().getTotalElements()).isNull();
+        assertThat(actualResponse.getData().getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("Get user list after cursor - InvalidRequestException")
+    public void testGetUserListAfter_cursorIsInvalid() throws Exception {
+        Mockito.when(userComponent.getUserListAfter("cursor", 10))
+                .thenReturn(Mono.error(InvalidRequestException.of(HttpConstants.CURSOR_IS_INVALID)));
+
+        ParameterizedTypeReference<Response<CustomPage<UserShortResponse>>> typeReference = new ParameterizedTypeReference<Response<CustomPage<UserShortResponse>>>() {
+        };
+
+        Response<CustomPage<UserShortResponse>> actualResponse = webTestClient.get().uri("/v1/users?after=cursor")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody(typeReference)
+                .returnResult()
+                .getResponseBody();
+
+        assertThat(actualResponse.getStatus().getCode()).isEqualTo(HttpConstants.CURSOR_IS_INVALID.getCode());
+        assertThat(actualResponse.getStatus().getMessage()).isEqualTo(HttpConstants.CURSOR_IS_INVALID.getDesc());
+        assertThat(actualResponse.getData()).isNull();
+    }
+
     @Test
     @DisplayName("Get user list - ServiceException")
     public void testGetUserList_ServiceException() throws Exception {
 
         Mockito.when(userComponent.getUserList(Mockito.any()))
-                .thenThrow(new ServiceException(HttpConstants.FAILED_TO_CONVERT_VALUE_TO_ENUM));
+                .thenThrow(ServiceException.of(HttpConstants.FAILED_TO_CONVERT_VALUE_TO_ENUM));
 
         ParameterizedTypeReference<Response<CustomPage<UserShortResponse>>> typeReference = new ParameterizedTypeReference<Response<CustomPage<UserShortResponse>>>() {
         };
@@ -1213,10 +1391,202 @@ class UserControllerTest {
         assertThat(actualResponse.getData()).isNull();
     }
 
+    @Test
+    @DisplayName("Stream users - NDJSON")
+    public void testStreamUsers_ndjson() throws Exception {
+        Mockito.when(userComponent.streamUsers())
+                .thenReturn(Flux.just(new UserResponse().setId(1L).setCardId("cardId"), new UserResponse().setId(2L)));
+
+        List<UserResponse> actualResponse = webTestClient.get().uri("/v1/users/stream")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(UserResponse.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        Mockito.verify(userComponent, Mockito.times(1)).streamUsers();
+
+        assertThat(actualResponse).hasSize(2);
+        assertThat(actualResponse.get(0).getId()).isEqualTo(1L);
+        assertThat(actualResponse.get(0).getCardId()).isEqualTo("cardId");
+        assertThat(actualResponse.get(1).getId()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("Stream users - SSE")
+    public void testStreamUsers_eventStream() throws Exception {
+        Mockito.when(userComponent.streamUsers())
+                .thenReturn(Flux.just(new UserResponse().setId(1L)));
+
+        List<UserResponse> actualResponse = webTestClient.get().uri("/v1/users/stream")
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.TEXT_EVENT_STREAM)
+                .returnResult(UserResponse.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        Mockito.verify(userComponent, Mockito.times(1)).streamUsers();
+
+        assertThat(actualResponse).hasSize(1);
+        assertThat(actualResponse.get(0).getId()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Create users batch - success")
+    public void testCreateUsers_success() throws Exception {
+        List<BatchItemResponse> items = List.of(
+                new BatchItemResponse().setIndex(0).setId(1L).setStatus(new Status(HttpConstants.SUCCESS)),
+                new BatchItemResponse().setIndex(1).setStatus(new Status(HttpConstants.AGE_IS_REQUIRED)));
+
+        Mockito.when(userComponent.createUsers(Mockito.anyList())).thenReturn(Mono.just(items));
+
+        ParameterizedTypeReference<Response<List<BatchItemResponse>>> typeReference = new ParameterizedTypeReference<Response<List<BatchItemResponse>>>() {
+        };
+        Response<List<BatchItemResponse>> actualResponse = webTestClient.post().uri("/v1/users:batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(BodyInserters.fromValue(List.of(new CreateUserRequest().setCardId("cardId"), new CreateUserRequest())))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(typeReference)
+                .returnResult()
+                .getResponseBody();
+
+        Mockito.verify(userComponent, Mockito.times(1)).createUsers(Mockito.argThat(requests -> requests.size() == 2
+                && requests.get(0).getCardId().equals("cardId")));
+
+        assertThat(actualResponse.getStatus().getCode()).isEqualTo(HttpConstants.SUCCESS.getCode());
+        assertThat(actualResponse.getData()).hasSize(2);
+        assertThat(actualResponse.getData().get(0).getId()).isEqualTo(1L);
+        assertThat(actualResponse.getData().get(1).getStatus().getCode()).isEqualTo(HttpConstants.AGE_IS_REQUIRED.getCode());
+    }
+
+    @Test
+    @DisplayName("Create users batch - InvalidRequestException")
+    public void testCreateUsers_InvalidRequestException() throws Exception {
+        Mockito.when(userComponent.createUsers(Mockito.anyList()))
+                .thenReturn(Mono.error(InvalidRequestException.of(HttpConstants.BATCH_SIZE_IS_INVALID)));
+
+        ParameterizedTypeReference<Response<Void>> typeReference = new ParameterizedTypeReference<Response<Void>>() {
+        };
+        Response<Void> actualResponse = webTestClient.post().uri("/v1/users:batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(BodyInserters.fromValue(List.of()))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody(typeReference)
+                .returnResult()
+                .getResponseBody();
+
+        assertThat(actualResponse.getStatus().getCode()).isEqualTo(HttpConstants.BATCH_SIZE_IS_INVALID.getCode());
+    }
+
+    @Test
+    @DisplayName("Import users - csv")
+    public void testImportUsers_csv() throws Exception {
+        ImportProgressResponse progress = new ImportProgressResponse()
+                .setProcessed(1)
+                .setImported(1)
+                .setDone(true)
+                .setErrors(List.of());
+
+        Mockito.when(userComponent.importUsers(Mockito.any(), Mockito.eq(true))).thenReturn(Flux.just(progress));
+
+        List<ImportProgressResponse> actualResponse = webTestClient.post().uri("/v1/users:import")
+                .contentType(MediaType.parseMediaType("text/csv"))
+                .accept(MediaType.APPLICATION_NDJSON)
+                .body(BodyInserters.fromValue("card_id\n1\n"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(ImportProgressResponse.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        Mockito.verify(userComponent, Mockito.times(1)).importUsers(Mockito.any(), Mockito.eq(true));
+
+        assertThat(actualResponse).hasSize(1);
+        assertThat(actualResponse.get(0).getImported()).isEqualTo(1);
+        assertThat(actualResponse.get(0).isDone()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Import users - ndjson")
+    public void testImportUsers_ndjson() throws Exception {
+        Mockito.when(userComponent.importUsers(Mockito.any(), Mockito.eq(false))).thenReturn(Flux.empty());
+
+        webTestClient.post().uri("/v1/users:import")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(BodyInserters.fromValue("{\"card_id\": \"1\"}\n"))
+                .exchange()
+                .expectStatus().isOk();
+
+        Mockito.verify(userComponent, Mockito.times(1)).importUsers(Mockito.any(), Mockito.eq(false));
+    }
+
+    @Test
+    @DisplayName("Update users batch - success")
+    public void testUpdateUsers_success() throws Exception {
+        List<BatchItemResponse> items = List.of(
+                new BatchItemResponse().setIndex(0).setId(1L).setStatus(new Status(HttpConstants.USER_NOT_FOUND)));
+
+        Mockito.when(userComponent.updateUsers(Mockito.anyList())).thenReturn(Mono.just(items));
+
+        ParameterizedTypeReference<Response<List<BatchItemResponse>>> typeReference = new ParameterizedTypeReference<Response<List<BatchItemResponse>>>() {
+        };
+        Response<List<BatchItemResponse>> actualResponse = webTestClient.patch().uri("/v1/users:batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(BodyInserters.fromValue("[{\"id\": 1, \"first_name\": \"firstName\"}]"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(typeReference)
+                .returnResult()
+                .getResponseBody();
+
+        Mockito.verify(userComponent, Mockito.times(1)).updateUsers(Mockito.argThat(requests -> requests.size() == 1
+                && requests.get(0).getId().equals(1L)
+                && requests.get(0).getFirstName().equals("firstName")));
+
+        assertThat(actualResponse.getData().get(0).getStatus().getCode()).isEqualTo(HttpConstants.USER_NOT_FOUND.getCode());
+    }
+
+    @Test
+    @DisplayName("Delete users batch - success")
+    public void testDeleteUsers_success() throws Exception {
+        List<BatchItemResponse> items = List.of(
+                new BatchItemResponse().setIndex(0).setId(1L).setStatus(new Status(HttpConstants.SUCCESS)),
+                new BatchItemResponse().setIndex(1).setId(2L).setStatus(new Status(HttpConstants.SUCCESS)));
+
+        Mockito.when(userComponent.deleteUsers(List.of(1L, 2L))).thenReturn(Mono.just(items));
+
+        ParameterizedTypeReference<Response<List<BatchItemResponse>>> typeReference = new ParameterizedTypeReference<Response<List<BatchItemResponse>>>() {
+        };
+        Response<List<BatchItemResponse>> actualResponse = webTestClient.method(HttpMethod.DELETE).uri("/v1/users:batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(BodyInserters.fromValue(List.of(1L, 2L)))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(typeReference)
+                .returnResult()
+                .getResponseBody();
+
+        Mockito.verify(userComponent, Mockito.times(1)).deleteUsers(List.of(1L, 2L));
+
+        assertThat(actualResponse.getData()).extracting(BatchItemResponse::getId).containsExactly(1L, 2L);
+    }
+
     @Test
     @DisplayName("Delete user - success")
     public void testDeleteUser_success() throws Exception {
 
+        Mockito.when(userComponent.deleteUser(1L)).thenReturn(Mono.empty());
+
         ParameterizedTypeReference<Response<Void>> typeReference = new ParameterizedTypeReference<Response<Void>>() {
         };
 
@@ -1239,7 +1609,7 @@ class UserControllerTest {
     @DisplayName("Delete user - NotFoundException")
     public void testDeleteUser_NotFoundException() throws Exception {
 
-        Mockito.doThrow(new NotFoundException(HttpConstants.USER_NOT_FOUND))
+        Mockito.doThrow(NotFoundException.of(HttpConstants.USER_NOT_FOUND))
                 .when(userComponent).deleteUser(1L);
 
         ParameterizedTypeReference<Response<Void>> typeReference = new ParameterizedTypeReference<Response<Void>>() {
@@ -1285,4 +1655,94 @@ class UserControllerTest {
         assertThat(actualResponse.getData()).isNull();
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("Generate RSA - success")
+    public void testGenerateRSA_success() {
+        Mockito.when(userComponent.generateRSA(Mockito.eq(1L), Mockito.eq("rsa-2048")))
+                .thenReturn(Mono.just("privateKey"));
+
+        webTestClient.post().uri("/v1/users/1/generate-rsa")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.status.code").isEqualTo(HttpConstants.SUCCESS.getCode())
+                .jsonPath("$.data").isEqualTo("privateKey");
+    }
+
+    @Test
+    @DisplayName("Generate RSA - TooManyRequestsException")
+    public void testGenerateRSA_TooManyRequestsException() {
+        Mockito.when(userComponent.generateRSA(Mockito.eq(1L), Mockito.eq("rsa-2048")))
+                .thenReturn(Mono.error(TooManyRequestsException.of(HttpConstants.TOO_MANY_REQUESTS)));
+
+        webTestClient.post().uri("/v1/users/1/generate-rsa")
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.TOO_MANY_REQUESTS)
+                .expectHeader().valueEquals(HttpHeaders.RETRY_AFTER, "1")
+                .expectBody()
+                .jsonPath("$.status.code").isEqualTo(HttpConstants.TOO_MANY_REQUESTS.getCode())
+                .jsonPath("$.data").doesNotExist();
+    }
+
+    @Test
+    @DisplayName("Generate RSA - algorithm")
+    public void testGenerateRSA_algorithm() {
+        Mockito.when(userComponent.generateRSA(Mockito.eq(1L), Mockito.eq("ed25519")))
+                .thenReturn(Mono.just("privateKey"));
+
+        webTestClient.post().uri("/v1/users/1/generate-rsa?algorithm=ed25519")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.data").isEqualTo("privateKey");
+    }
+
+    @Test
+    @DisplayName("Generate keys - ndjson")
+    public void testGenerateKeys() {
+        GeneratedKeyResponse generated = new GeneratedKeyResponse()
+                .setIndex(1)
+                .setId(2L)
+                .setPrivateKey("privateKey")
+                .setStatus(new Status(HttpConstants.SUCCESS));
+        GeneratedKeyResponse notFound = new GeneratedKeyResponse()
+                .setIndex(0)
+                .setId(1L)
+                .setStatus(new Status(HttpConstants.USER_NOT_FOUND));
+
+        Mockito.when(userComponent.generateKeys(Mockito.eq(List.of(1L, 2L)), Mockito.eq("ec-p256")))
+                .thenReturn(Flux.just(generated, notFound));
+
+        List<String> lines = webTestClient.post().uri("/v1/users:generate-keys?algorithm=ec-p256")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .body(BodyInserters.fromValue(List.of(1L, 2L)))
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(String.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(0)).contains("\"index\":1", "\"private_key\":\"privateKey\"", HttpConstants.SUCCESS.getCode());
+        assertThat(lines.get(1)).contains("\"index\":0", HttpConstants.USER_NOT_FOUND.getCode()).doesNotContain("private_key");
+    }
+
+    @Test
+    @DisplayName("Generate keys - InvalidRequestException")
+    public void testGenerateKeys_InvalidRequestException() {
+        Mockito.when(userComponent.generateKeys(Mockito.eq(List.of(1L)), Mockito.eq("dsa")))
+                .thenReturn(Flux.error(InvalidRequestException.of(HttpConstants.KEY_ALGORITHM_IS_INVALID)));
+
+        webTestClient.post().uri("/v1/users:generate-keys?algorithm=dsa")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(BodyInserters.fromValue(List.of(1L)))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.status.code").isEqualTo(HttpConstants.KEY_ALGORITHM_IS_INVALID.getCode());
+    }
+
+}
@@ -0,0 +1,40 @@
+package com.phoosop.reactive.converter;
+
+import com.phoosop.reactive.model.entity.UserShortEntity;
+import com.phoosop.reactive.model.enums.UserStatus;
+import com.phoosop.reactive.model.enums.UserType;
+import com.phoosop.reactive.model.response.UserShortResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+class UserShortEntityToUserShortResponseConverterTest {
+
+    @InjectMocks
+    private UserShortEntityToUserShortResponseConverterImpl userShortEntityToUserShortResponseConverter;
+
+    @Test
+    public void testConvert() {
+        UserShortEntity source = new UserShortEntity()
+                .setId(1L)
+                .setCardId("cardId")
+                .setFirstName("firstName")
+                .setSecondName("secondName")
+                .setType(UserType.USER.getValue())
+                .setStatus(UserStatus.ACTIVE.getValue());
+        UserShortResponse result = userShortEntityToUserShortResponseConverter.convert(source);
+        assertThat(result.getId()).isEqualTo(1L);
+        assertThat(result.getCardId()).isEqualTo("cardId");
+        assertThat(result.getFirstName()).isEqualTo("firstName");
+        assertThat(result.getSecondName()).isEqualTo("secondName");
+        assertThat(result.getType()).isEqualTo(UserType.USER.getValue());
+        assertThat(result.getStatus()).isEqualTo(UserStatus.ACTIVE.getValue());
+        assertThat(result.getActivity()).isNull();
+        assertThat(result.getRawActivity()).isNull();
+    }
+
+}
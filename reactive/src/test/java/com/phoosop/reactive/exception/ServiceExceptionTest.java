@@ -0,0 +1,48 @@
+package com.phoosop.reactive.exception;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.Exceptions;
+
+import static com.phoosop.reactive.exception.StatusConstants.HttpConstants;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ServiceExceptionTest {
+
+    @Test
+    public void testOf_cachedPerStatus() {
+        assertThat(ServiceException.of(HttpConstants.USER_NOT_FOUND)).isSameAs(ServiceException.of(HttpConstants.USER_NOT_FOUND));
+        assertThat(InvalidRequestException.of(HttpConstants.AGE_IS_INVALID)).isSameAs(InvalidRequestException.of(HttpConstants.AGE_IS_INVALID));
+        assertThat(NotFoundException.of(HttpConstants.USER_NOT_FOUND)).isSameAs(NotFoundException.of(HttpConstants.USER_NOT_FOUND));
+        assertThat(TooManyRequestsException.of(HttpConstants.TOO_MANY_REQUESTS)).isSameAs(TooManyRequestsException.of(HttpConstants.TOO_MANY_REQUESTS));
+        assertThat(InvalidRequestException.of(HttpConstants.AGE_IS_INVALID)).isNotSameAs(InvalidRequestException.of(HttpConstants.AGE_IS_REQUIRED));
+    }
+
+    @Test
+    public void testOf_statusAndMessage() {
+        InvalidRequestException exception = InvalidRequestException.of(HttpConstants.AGE_IS_INVALID);
+
+        assertThat(exception.getStatus()).isEqualTo(HttpConstants.AGE_IS_INVALID);
+        assertThat(exception.getMessage()).isEqualTo(HttpConstants.AGE_IS_INVALID.getDesc());
+    }
+
+    @Test
+    public void testOf_stackless() {
+        assertThat(ServiceException.of(HttpConstants.ACTIVITY_SERVICE_IS_UNAVAILABLE).getStackTrace()).isEmpty();
+        assertThat(InvalidRequestException.of(HttpConstants.AGE_IS_INVALID).getStackTrace()).isEmpty();
+        assertThat(NotFoundException.of(HttpConstants.USER_NOT_FOUND).getStackTrace()).isEmpty();
+        assertThat(TooManyRequestsException.of(HttpConstants.TOO_MANY_REQUESTS).getStackTrace()).isEmpty();
+        assertThat(new ServiceException("text", HttpConstants.INTERNAL_SERVER_ERROR).getStackTrace()).isEmpty();
+    }
+
+    @Test
+    public void testOf_sharedInstanceStaysUnchanged() {
+        NotFoundException exception = NotFoundException.of(HttpConstants.USER_NOT_FOUND);
+
+        // operators attach suppressed errors to the exception they pass on, which would pile up on a shared instance
+        Exceptions.addSuppressed(exception, new IllegalStateException("other"));
+
+        assertThat(exception.getSuppressed()).isEmpty();
+        assertThat(exception.getCause()).isNull();
+    }
+
+}
@@ -0,0 +1,190 @@
+package com.phoosop.reactive.mock;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.http.server.HttpServerRequest;
+import reactor.netty.http.server.HttpServerResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process stand-in for the activity API, used instead of {@code mock/start-activity-mock.sh} when latency and
+ * failures matter. Every request is delayed by a sample of {@link #latency}, then a share of them fails with 500
+ * ({@link #errorRate}) or is never answered at all ({@link #timeoutRate}).
+ *
+ * <pre>
+ * try (ActivityMockServer server = new ActivityMockServer().setLatency(Latency.longTail(50, 1)).start()) {
+ *     ... point boredapi.host at "http://localhost:" + server.port()
+ * }
+ * </pre>
+ */
+@Getter
+@Accessors(chain = true)
+public class ActivityMockServer implements AutoCloseable {
+
+    public static final String PATH = "/api/activity";
+
+    private static final Logger LOG = LoggerFactory.getLogger(ActivityMockServer.class);
+
+    private static final byte[] BODY = ("{\"activity\": \"Cook something together with someone\", \"type\": \"cooking\", "
+            + "\"participants\": 2, \"price\": 0.3, \"link\": \"\", \"key\": \"1799120\", \"accessibility\": 0.8}")
+            .getBytes(StandardCharsets.UTF_8);
+    private static final byte[] ERROR_BODY = "{\"error\": \"Injected failure\"}".getBytes(StandardCharsets.UTF_8);
+
+    @Setter
+    private String host = "localhost";
+
+    @Setter
+    private int port = 0;
+
+    @Setter
+    private Latency latency = Latency.fixed(0);
+
+    @Setter
+    private double errorRate = 0;
+
+    @Setter
+    private double timeoutRate = 0;
+
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+    private final AtomicLong timeouts = new AtomicLong();
+
+    private DisposableServer server;
+
+    public ActivityMockServer start() {
+        server = HttpServer.create()
+                .host(host)
+                .port(port)
+                .route(routes -> routes.get(PATH, this::activity))
+                .bindNow();
+        return this;
+    }
+
+    public int port() {
+        return server.port();
+    }
+
+    @Override
+    public void close() {
+        if (server != null) {
+            server.disposeNow();
+        }
+    }
+
+    private Publisher<Void> activity(HttpServerRequest request, HttpServerResponse response) {
+        requests.incrementAndGet();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (random.nextDouble() < timeoutRate) {
+            // the connection stays open until the client gives up
+            timeouts.incrementAndGet();
+            return Mono.never();
+        }
+        boolean error = random.nextDouble() < errorRate;
+        return Mono.delay(Duration.ofMillis(latency.nextMillis(random)))
+                .then(Mono.defer(() -> {
+                    if (error) {
+                        errors.incrementAndGet();
+                    }
+                    return response.status(error ? 500 : 200)
+                            .header("Content-Type", "application/json")
+                            .sendByteArray(Mono.just(error ? ERROR_BODY : BODY))
+                            .then();
+                }));
+    }
+
+    /**
+     * Arguments are {@code host=0.0.0.0 port=9100 latency=longtail:50,1 error-rate=0.01 timeout-rate=0.001}, see
+     * {@link Latency#parse(String)} for the latency formats. An argument may hold several options separated by spaces.
+     * The host defaults to all interfaces, so the application can also reach it as {@code host.docker.internal}.
+     */
+    public static void main(String[] args) {
+        ActivityMockServer server = new ActivityMockServer().setHost("0.0.0.0").setPort(9100);
+        for (String arg : String.join(" ", args).trim().split("\\s+")) {
+            if (arg.isEmpty()) {
+                continue;
+            }
+            String[] option = arg.split("=", 2);
+            if (option.length != 2) {
+                throw new IllegalArgumentException("Expected name=value, got " + arg);
+            }
+            switch (option[0]) {
+                case "host" -> server.setHost(option[1]);
+                case "port" -> server.setPort(Integer.parseInt(option[1]));
+                case "latency" -> server.setLatency(Latency.parse(option[1]));
+                case "error-rate" -> server.setErrorRate(Double.parseDouble(option[1]));
+                case "timeout-rate" -> server.setTimeoutRate(Double.parseDouble(option[1]));
+                default -> throw new IllegalArgumentException("Unknown option " + option[0]);
+            }
+        }
+        server.start();
+        LOG.info("Activity mock listening on {}:{}{} with latency {}, error rate {}, timeout rate {}",
+                server.getHost(), server.port(), PATH, server.getLatency(), server.getErrorRate(), server.getTimeoutRate());
+        Runtime.getRuntime().addShutdownHook(new Thread(server::close));
+        server.server.onDispose().block();
+    }
+
+    @FunctionalInterface
+    public interface Latency {
+
+        long nextMillis(Random random);
+
+        static Latency fixed(long millis) {
+            return describe("fixed:" + millis, random -> millis);
+        }
+
+        static Latency normal(long meanMillis, long stdDevMillis) {
+            return describe("normal:" + meanMillis + "," + stdDevMillis,
+                    random -> Math.max(0, Math.round(meanMillis + random.nextGaussian() * stdDevMillis)));
+        }
+
+        /**
+         * Log-normal latency: half of the requests are faster than the median, sigma controls how far the tail
+         * reaches, with sigma 1 the p99 is about ten times the median.
+         */
+        static Latency longTail(long medianMillis, double sigma) {
+            return describe("longtail:" + medianMillis + "," + sigma,
+                    random -> Math.round(medianMillis * Math.exp(sigma * random.nextGaussian())));
+        }
+
+        /**
+         * Parses {@code fixed:<millis>}, {@code normal:<mean>,<stddev>} or {@code longtail:<median>,<sigma>}.
+         */
+        static Latency parse(String spec) {
+            String[] parts = spec.split("[:,]");
+            return switch (parts[0]) {
+                case "fixed" -> fixed(Long.parseLong(parts[1]));
+                case "normal" -> normal(Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+                case "longtail" -> longTail(Long.parseLong(parts[1]), Double.parseDouble(parts[2]));
+                default -> throw new IllegalArgumentException("Unknown latency " + spec);
+            };
+        }
+
+        private static Latency describe(String description, Latency latency) {
+            return new Latency() {
+                @Override
+                public long nextMillis(Random random) {
+                    return latency.nextMillis(random);
+                }
+
+                @Override
+                public String toString() {
+                    return description;
+                }
+            };
+        }
+
+    }
+
+}
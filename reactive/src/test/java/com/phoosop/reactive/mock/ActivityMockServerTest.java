@@ -0,0 +1,110 @@
+package com.phoosop.reactive.mock;
+
+import com.phoosop.reactive.model.external.ActivityExternal;
+import io.netty.handler.timeout.ReadTimeoutException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.netty.http.client.HttpClient;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ActivityMockServerTest {
+
+    @Test
+    public void testActivity_fixedLatency() {
+        try (ActivityMockServer server = new ActivityMockServer().setLatency(ActivityMockServer.Latency.fixed(200)).start()) {
+            long start = System.nanoTime();
+
+            StepVerifier.create(webClient(server).get().uri(ActivityMockServer.PATH)
+                            .retrieve()
+                            .bodyToMono(ActivityExternal.class))
+                    .expectNextMatches(activity -> activity.getKey().equals("1799120") && activity.getParticipants().equals(2))
+                    .verifyComplete();
+
+            assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(200));
+            assertThat(server.getRequests().get()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    public void testActivity_errorRate() {
+        try (ActivityMockServer server = new ActivityMockServer().setErrorRate(1).start()) {
+            StepVerifier.create(webClient(server).get().uri(ActivityMockServer.PATH)
+                            .retrieve()
+                            .bodyToMono(ActivityExternal.class))
+                    .expectErrorMatches(throwable -> throwable instanceof WebClientResponseException exception
+                            && exception.getStatusCode() == HttpStatus.INTERNAL_SERVER_ERROR)
+                    .verify();
+
+            assertThat(server.getErrors().get()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    public void testActivity_timeoutRate() {
+        try (ActivityMockServer server = new ActivityMockServer().setTimeoutRate(1).start()) {
+            HttpClient httpClient = HttpClient.create().responseTimeout(Duration.ofMillis(200));
+
+            StepVerifier.create(webClient(server, httpClient).get().uri(ActivityMockServer.PATH)
+                            .retrieve()
+                            .bodyToMono(ActivityExternal.class))
+                    .expectErrorMatches(throwable -> throwable.getCause() instanceof ReadTimeoutException)
+                    .verify(Duration.ofSeconds(5));
+
+            assertThat(server.getTimeouts().get()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    public void testUnknownPath() {
+        try (ActivityMockServer server = new ActivityMockServer().start()) {
+            StepVerifier.create(webClient(server).get().uri("/api/unknown")
+                            .retrieve()
+                            .toBodilessEntity())
+                    .expectErrorMatches(throwable -> throwable instanceof WebClientResponseException exception
+                            && exception.getStatusCode() == HttpStatus.NOT_FOUND)
+                    .verify();
+        }
+    }
+
+    @Test
+    public void testLatency_parse() {
+        Random random = new Random(1);
+        long[] longTail = sample(ActivityMockServer.Latency.parse("longtail:50,1"), random);
+        long[] normal = sample(ActivityMockServer.Latency.parse("normal:100,20"), random);
+
+        assertThat(ActivityMockServer.Latency.parse("fixed:30").nextMillis(random)).isEqualTo(30);
+        assertThat(longTail[longTail.length / 2]).isBetween(45L, 55L);
+        assertThat(longTail[longTail.length * 99 / 100]).isGreaterThan(350);
+        assertThat(normal[normal.length / 2]).isBetween(95L, 105L);
+        assertThat(normal[0]).isGreaterThanOrEqualTo(0);
+        assertThat(ActivityMockServer.Latency.parse("normal:100,20")).hasToString("normal:100,20");
+    }
+
+    private static long[] sample(ActivityMockServer.Latency latency, Random random) {
+        long[] samples = LongStream.range(0, 10_000).map(i -> latency.nextMillis(random)).toArray();
+        Arrays.sort(samples);
+        return samples;
+    }
+
+    private static WebClient webClient(ActivityMockServer server) {
+        return webClient(server, HttpClient.create());
+    }
+
+    private static WebClient webClient(ActivityMockServer server, HttpClient httpClient) {
+        return WebClient.builder()
+                .baseUrl("http://localhost:" + server.port())
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+
+}
@@ -0,0 +1,92 @@
+package com.phoosop.reactive.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.scheduler.VirtualTimeScheduler;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrefetchPoolTest {
+
+    private static final Duration REFILL_INTERVAL = Duration.ofMillis(20);
+
+    private PrefetchPool<Integer> prefetchPool;
+
+    private MeterRegistry meterRegistry;
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private VirtualTimeScheduler scheduler;
+
+    @BeforeEach
+    void setUpBeforeEach() {
+        meterRegistry = new SimpleMeterRegistry();
+        prefetchPool = new PrefetchPool<>("test.pool", 2, 3, 2, meterRegistry);
+        // the refill interval runs on virtual time, a fill happens on advanceTime
+        scheduler = VirtualTimeScheduler.getOrSet();
+    }
+
+    @AfterEach
+    void tearDownAfterEach() {
+        prefetchPool.dispose();
+        VirtualTimeScheduler.reset();
+    }
+
+    @Test
+    public void testPoll_filledUpToHighWatermark() {
+        prefetchPool.start(() -> Mono.fromSupplier(loads::incrementAndGet), REFILL_INTERVAL);
+        scheduler.advanceTime();
+        assertThat(poolSize()).isEqualTo(3);
+
+        assertThat(prefetchPool.poll()).isNotNull();
+        assertThat(meterRegistry.get("test.pool.requests").tag("result", "hit").counter().count()).isEqualTo(1);
+        assertThat(loads.get()).isEqualTo(3);
+    }
+
+    @Test
+    public void testPoll_refillsBelowLowWatermark() {
+        prefetchPool.start(() -> Mono.fromSupplier(loads::incrementAndGet), REFILL_INTERVAL);
+        scheduler.advanceTime();
+
+        // 2 left is still at the low watermark, neither the take nor the timer fills
+        prefetchPool.poll();
+        scheduler.advanceTimeBy(REFILL_INTERVAL);
+        assertThat(poolSize()).isEqualTo(2);
+
+        // 1 left is below it, the take fills up to the high watermark again
+        prefetchPool.poll();
+        scheduler.advanceTime();
+        assertThat(poolSize()).isEqualTo(3);
+        assertThat(loads.get()).isEqualTo(5);
+    }
+
+    @Test
+    public void testPoll_emptyPool() {
+        assertThat(prefetchPool.poll()).isNull();
+        assertThat(meterRegistry.get("test.pool.requests").tag("result", "miss").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void testPoll_producerRecoversAfterError() {
+        prefetchPool.start(() -> loads.incrementAndGet() == 1
+                ? Mono.error(new RuntimeException("loader is down"))
+                : Mono.just(loads.get()), REFILL_INTERVAL);
+
+        scheduler.advanceTime();
+        assertThat(poolSize()).isLessThan(3);
+        scheduler.advanceTimeBy(REFILL_INTERVAL);
+        assertThat(poolSize()).isEqualTo(3);
+    }
+
+    private double poolSize() {
+        return meterRegistry.get("test.pool.size").gauge().value();
+    }
+
+}
@@ -0,0 +1,106 @@
+package com.phoosop.reactive.service;
+
+import com.phoosop.reactive.config.UserProperties;
+import com.phoosop.reactive.model.entity.UserEntity;
+import com.phoosop.reactive.service.persistence.UserCacheService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserCacheServiceTest {
+
+    private UserCacheService userCacheService;
+
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUpBeforeEach() {
+        UserProperties.Cache cache = new UserProperties.Cache();
+        cache.setMaximumSize(100L);
+        cache.setExpireAfterWrite(60);
+        UserProperties userProperties = new UserProperties();
+        userProperties.setCache(cache);
+        meterRegistry = new SimpleMeterRegistry();
+        userCacheService = new UserCacheService(userProperties, meterRegistry);
+    }
+
+    @Test
+    public void testGet_loadedOnce() {
+        AtomicInteger loads = new AtomicInteger();
+        UserEntity userEntity = new UserEntity().setId(1L);
+
+        for (int i = 0; i < 3; i++) {
+            StepVerifier.create(userCacheService.get(1L, id -> {
+                        loads.incrementAndGet();
+                        return Mono.just(userEntity);
+                    }))
+                    .expectNext(userEntity)
+                    .verifyComplete();
+        }
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "users").tag("result", "hit").functionCounter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "users").tag("result", "miss").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void testGet_concurrentMissesShareLoad() {
+        AtomicInteger loads = new AtomicInteger();
+        Sinks.One<UserEntity> sink = Sinks.one();
+        UserEntity userEntity = new UserEntity().setId(1L);
+
+        Mono<UserEntity> first = userCacheService.get(1L, id -> {
+            loads.incrementAndGet();
+            return sink.asMono();
+        });
+        Mono<UserEntity> second = userCacheService.get(1L, id -> {
+            loads.incrementAndGet();
+            return sink.asMono();
+        });
+        StepVerifier.create(Mono.zip(first, second))
+                .then(() -> {
+                    assertThat(loads.get()).isEqualTo(1);
+                    sink.tryEmitValue(userEntity);
+                })
+                .expectNextMatches(tuple -> tuple.getT1() == userEntity && tuple.getT2() == userEntity)
+                .verifyComplete();
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void testGet_emptyIsNotCached() {
+        AtomicInteger loads = new AtomicInteger();
+
+        for (int i = 0; i < 2; i++) {
+            StepVerifier.create(userCacheService.get(1L, id -> {
+                        loads.incrementAndGet();
+                        return Mono.empty();
+                    }))
+                    .verifyComplete();
+        }
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void testInvalidate() {
+        AtomicInteger loads = new AtomicInteger();
+
+        userCacheService.get(1L, id -> Mono.just(new UserEntity().setId(id))).block();
+        userCacheService.invalidate(1L);
+        StepVerifier.create(userCacheService.get(1L, id -> {
+                    loads.incrementAndGet();
+                    return Mono.just(new UserEntity().setId(id));
+                }))
+                .expectNextMatches(result -> result.getId().equals(1L))
+                .verifyComplete();
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+}
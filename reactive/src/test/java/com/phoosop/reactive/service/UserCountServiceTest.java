@@ -0,0 +1,178 @@
+package com.phoosop.reactive.service;
+
+import com.phoosop.reactive.repository.UserRepository;
+import com.phoosop.reactive.service.persistence.UserCountService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+class UserCountServiceTest {
+
+    @InjectMocks
+    private UserCountService userCountService;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Test
+    public void testCount_loadedOnce() {
+        Mockito.when(userRepository.count()).thenReturn(Mono.just(10L));
+
+        StepVerifier.create(userCountService.count())
+                .expectNext(10L)
+                .verifyComplete();
+        StepVerifier.create(userCountService.count())
+                .expectNext(10L)
+                .verifyComplete();
+        Mockito.verify(userRepository, Mockito.times(1)).count();
+    }
+
+    @Test
+    public void testCount_concurrentCallsShareQuery() {
+        Sinks.One<Long> sink = Sinks.one();
+        Mockito.when(userRepository.count()).thenReturn(sink.asMono());
+
+        Mono<Long> first = userCountService.count();
+        Mono<Long> second = userCountService.count();
+        first.subscribe();
+        second.subscribe();
+        sink.tryEmitValue(5L);
+
+        StepVerifier.create(first)
+                .expectNext(5L)
+                .verifyComplete();
+        StepVerifier.create(second)
+                .expectNext(5L)
+                .verifyComplete();
+        Mockito.verify(userRepository, Mockito.times(1)).count();
+    }
+
+    @Test
+    public void testCount_adjustedBySaveAndDelete() {
+        Mockito.when(userRepository.count()).thenReturn(Mono.just(10L));
+
+        StepVerifier.create(userCountService.count())
+                .expectNext(10L)
+                .verifyComplete();
+        userCountService.increment();
+        userCountService.increment();
+        userCountService.decrement();
+        StepVerifier.create(userCountService.count())
+                .expectNext(11L)
+                .verifyComplete();
+        Mockito.verify(userRepository, Mockito.times(1)).count();
+    }
+
+    @Test
+    public void testReconcile() {
+        Mockito.when(userRepository.count()).thenReturn(Mono.just(10L), Mono.just(7L));
+
+        StepVerifier.create(userCountService.count())
+                .expectNext(10L)
+                .verifyComplete();
+        userCountService.increment();
+        StepVerifier.create(userCountService.reconcile())
+                .expectNext(7L)
+                .verifyComplete();
+        StepVerifier.create(userCountService.count())
+                .expectNext(7L)
+                .verifyComplete();
+        Mockito.verify(userRepository, Mockito.times(2)).count();
+    }
+
+    @Test
+    public void testReconcile_writesDuringQuery() {
+        Sinks.One<Long> sink = Sinks.one();
+        Mockito.when(userRepository.count()).thenReturn(sink.asMono());
+
+        Mono<Long> reconcile = userCountService.reconcile();
+        reconcile.subscribe();
+        userCountService.increment();
+        sink.tryEmitValue(3L);
+
+        StepVerifier.create(userCountService.count())
+                .expectNext(4L)
+                .verifyComplete();
+    }
+
+    @Test
+    public void testReconcile_correctsDriftWhileWritesOverlap() {
+        Sinks.One<Long> sink = Sinks.one();
+        Mockito.when(userRepository.count()).thenReturn(Mono.just(10L), sink.asMono());
+
+        StepVerifier.create(userCountService.count())
+                .expectNext(10L)
+                .verifyComplete();
+        // 5 rows were inserted outside of this instance, one more insert lands while the query runs
+        Mono<Long> reconcile = userCountService.reconcile();
+        reconcile.subscribe();
+        userCountService.increment();
+        sink.tryEmitValue(15L);
+
+        StepVerifier.create(userCountService.count())
+                .expectNext(16L)
+                .verifyComplete();
+    }
+
+    @Test
+    public void testReconcile_concurrentInserts() throws InterruptedException {
+        AtomicLong rows = new AtomicLong(10);
+        Mockito.when(userRepository.count()).thenAnswer(invocation -> Mono.fromCallable(rows::get));
+        StepVerifier.create(userCountService.count())
+                .expectNext(10L)
+                .verifyComplete();
+
+        int threads = 4;
+        int inserts = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+        AtomicBoolean done = new AtomicBoolean();
+        AtomicInteger reconciles = new AtomicInteger();
+        executor.execute(() -> {
+            while (!done.get()) {
+                userCountService.reconcile().block();
+                reconciles.incrementAndGet();
+            }
+        });
+        CountDownLatch latch = new CountDownLatch(threads);
+        for (int i = 0; i < threads; i++) {
+            executor.execute(() -> {
+                try {
+                    for (int j = 0; j < inserts; j++) {
+                        rows.incrementAndGet();
+                        userCountService.increment();
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        done.set(true);
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        // reconciles kept running under the writes, once they stop the next one is exact
+        assertThat(reconciles.get()).isPositive();
+        StepVerifier.create(userCountService.reconcile())
+                .expectNext(10L + threads * inserts)
+                .verifyComplete();
+    }
+
+}
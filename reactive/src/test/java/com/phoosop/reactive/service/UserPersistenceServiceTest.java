@@ -0,0 +1,453 @@
+package com.phoosop.reactive.service;
+
+import com.phoosop.reactive.exception.InvalidRequestException;
+import com.phoosop.reactive.model.command.UserCommand;
+import com.phoosop.reactive.model.entity.UserEntity;
+import com.phoosop.reactive.model.entity.UserShortEntity;
+import com.phoosop.reactive.model.enums.UserLevel;
+import com.phoosop.reactive.model.enums.UserStatus;
+import com.phoosop.reactive.model.enums.UserType;
+import com.phoosop.reactive.repository.UserRepository;
+import com.phoosop.reactive.service.persistence.UserCacheService;
+import com.phoosop.reactive.service.persistence.UserCountService;
+import com.phoosop.reactive.service.persistence.UserPersistenceService;
+import com.phoosop.reactive.service.persistence.UserReadBatchService;
+import com.phoosop.reactive.service.persistence.UserWriteBatchService;
+import com.phoosop.reactive.util.CursorUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.data.domain.PageRequest;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static com.phoosop.reactive.exception.StatusConstants.HttpConstants;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+class UserPersistenceServiceTest {
+
+    @InjectMocks
+    private UserPersistenceService userPersistenceService;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserCountService userCountService;
+
+    @Mock
+    private UserCacheService userCacheService;
+
+    @Mock
+    private UserReadBatchService userReadBatchService;
+
+    @Mock
+    private UserWriteBatchService userWriteBatchService;
+
+    @Mock
+    private ConversionService conversionService;
+
+    @Mock
+    private TransactionalOperator transactionalOperator;
+
+    @Test
+    public void testSave() {
+        UserCommand userCommand = new UserCommand()
+                .setAge(1)
+                .setCardId("card_id")
+                .setDateOfBirth("27-11-1991")
+                .setStatus(UserStatus.ACTIVE)
+                .setType(UserType.USER)
+                .setFirstName("firstName")
+                .setSecondName("secondName")
+                .setLevel(UserLevel.LEVEL_1);
+
+        UserEntity userEntity = new UserEntity()
+                .setAge(1)
+                .setCardId("card_id")
+                .setDateOfBirth("27-11-1991")
+                .setStatus(UserStatus.ACTIVE.getValue())
+                .setType(UserType.USER.getValue())
+                .setFirstName("firstName")
+                .setSecondName("secondName")
+                .setId(1L)
+                .setLevel(UserLevel.LEVEL_1.getValue());
+
+        Mockito.when(conversionService.convert(userCommand, UserEntity.class)).thenReturn(userEntity);
+        Mockito.when(userRepository.save(userEntity)).thenReturn(Mono.just(userEntity));
+        StepVerifier.create(userPersistenceService.save(userCommand))
+                .expectNextMatches(result -> result.getAge().equals(1)
+                        && result.getCardId().equals("card_id")
+                        && result.getDateOfBirth().equals("27-11-1991")
+                        && result.getStatus().equals(UserStatus.ACTIVE)
+                        && result.getType().equals(UserType.USER)
+                        && result.getFirstName().equals("firstName")
+                        && result.getSecondName().equals("secondName")
+                        && result.getId().equals(1L)
+                        && result.getLevel().equals(UserLevel.LEVEL_1))
+                .verifyComplete();
+        Mockito.verify(userRepository, Mockito.times(1)).save(userEntity);
+        Mockito.verify(conversionService, Mockito.times(1)).convert(userCommand, UserEntity.class);
+        Mockito.verify(userCountService, Mockito.times(1)).increment();
+        Mockito.verifyNoInteractions(userCacheService);
+
+    }
+
+    @Test
+    public void testSave_existingUser() {
+        UserCommand userCommand = new UserCommand()
+                .setId(1L);
+        UserEntity userEntity = new UserEntity()
+                .setId(1L);
+
+        Mockito.when(conversionService.convert(userCommand, UserEntity.class)).thenReturn(userEntity);
+        Mockito.when(userRepository.save(userEntity)).thenReturn(Mono.just(userEntity));
+        StepVerifier.create(userPersistenceService.save(userCommand))
+                .expectNextMatches(result -> result.getId().equals(1L))
+                .verifyComplete();
+        Mockito.verify(userCountService, Mockito.never()).increment();
+        Mockito.verify(userCacheService, Mockito.times(1)).invalidate(1L);
+    }
+
+    @Test
+    public void testSave_writeBatch() {
+        UserCommand userCommand = new UserCommand();
+        UserEntity userEntity = new UserEntity();
+
+        Mockito.when(conversionService.convert(userCommand, UserEntity.class)).thenReturn(userEntity);
+        Mockito.when(userWriteBatchService.isEnabled()).thenReturn(true);
+        Mockito.when(userWriteBatchService.insert(userEntity)).thenReturn(Mono.just(7L));
+        StepVerifier.create(userPersistenceService.save(userCommand))
+                .expectNextMatches(result -> result.getId().equals(7L))
+                .verifyComplete();
+        Mockito.verify(userRepository, Mockito.never()).save(Mockito.any());
+        Mockito.verify(userCountService, Mockito.times(1)).increment();
+    }
+
+    @Test
+    public void testFindById() {
+        long id = 1L;
+        UserEntity userEntity = new UserEntity()
+                .setId(1L)
+                .setAge(1)
+                .setCardId("card_id")
+                .setDateOfBirth("27-11-1991")
+                .setStatus(UserStatus.ACTIVE.getValue())
+                .setType(UserType.USER.getValue())
+                .setFirstName("firstName")
+                .setSecondName("secondName")
+                .setLevel(UserLevel.LEVEL_1.getValue());
+
+        UserCommand userCommand = new UserCommand()
+                .setId(1L)
+                .setAge(1)
+                .setCardId("card_id")
+                .setDateOfBirth("27-11-1991")
+                .setStatus(UserStatus.ACTIVE)
+                .setType(UserType.USER)
+                .setFirstName("firstName")
+                .setSecondName("secondName")
+                .setLevel(UserLevel.LEVEL_1);
+
+        Mockito.when(userCacheService.get(Mockito.eq(id), Mockito.any()))
+                .then(invocationOnMock -> invocationOnMock.<Function<Long, Mono<UserEntity>>>getArgument(1).apply(id));
+        Mockito.when(userReadBatchService.findById(id)).thenReturn(Mono.just(userEntity));
+        Mockito.when(conversionService.convert(userEntity, UserCommand.class)).thenReturn(userCommand);
+
+        StepVerifier.create(userPersistenceService.findById(id))
+                .expectNextMatches(result -> result.getAge().equals(1)
+                        && result.getCardId().equals("card_id")
+                        && result.getDateOfBirth().equals("27-11-1991")
+                        && result.getStatus().equals(UserStatus.ACTIVE)
+                        && result.getType().equals(UserType.USER)
+                        && result.getFirstName().equals("firstName")
+                        && result.getSecondName().equals("secondName")
+                        && result.getId().equals(1L)
+                        && result.getLevel().equals(UserLevel.LEVEL_1))
+                .verifyComplete();
+
+        Mockito.verify(userReadBatchService, Mockito.times(1)).findById(id);
+        Mockito.verify(conversionService, Mockito.times(1)).convert(userEntity, UserCommand.class);
+
+    }
+
+    @Test
+    public void testUpdate() {
+        long id = 1L;
+        UserCommand changes = new UserCommand()
+                .setFirstName("firstName")
+                .setStatus(UserStatus.ACTIVE)
+                .setType(UserType.MODERATOR)
+                .setAge(20);
+
+        UserEntity userEntity = new UserEntity().setId(1L);
+        UserCommand userCommand = new UserCommand().setId(1L);
+
+        Mockito.when(userRepository.update(Mockito.eq(id), Mockito.anyMap())).then(invocationOnMock -> {
+            Map<String, Object> properties = invocationOnMock.getArgument(1);
+            assertThat(properties).containsExactly(
+                    Map.entry("firstName", "firstName"),
+                    Map.entry("type", UserType.MODERATOR.getValue()),
+                    Map.entry("status", UserStatus.ACTIVE.getValue()),
+                    Map.entry("age", 20));
+            return Mono.just(1);
+        });
+        Mockito.when(userCacheService.get(Mockito.eq(id), Mockito.any()))
+                .then(invocationOnMock -> invocationOnMock.<Function<Long, Mono<UserEntity>>>getArgument(1).apply(id));
+        Mockito.when(userReadBatchService.findById(id)).thenReturn(Mono.just(userEntity));
+        Mockito.when(conversionService.convert(userEntity, UserCommand.class)).thenReturn(userCommand);
+
+        StepVerifier.create(userPersistenceService.update(id, changes))
+                .expectNext(userCommand)
+                .verifyComplete();
+        Mockito.verify(userRepository, Mockito.times(1)).update(Mockito.eq(id), Mockito.anyMap());
+        Mockito.verify(userRepository, Mockito.never()).save(Mockito.any());
+        Mockito.verify(userCacheService, Mockito.times(1)).invalidate(id);
+    }
+
+    @Test
+    public void testUpdate_writeBatch() {
+        long id = 1L;
+        UserEntity userEntity = new UserEntity().setId(1L);
+        UserCommand userCommand = new UserCommand().setId(1L);
+
+        Mockito.when(userWriteBatchService.isEnabled()).thenReturn(true);
+        Mockito.when(userWriteBatchService.update(id, Map.of("firstName", "firstName"))).thenReturn(Mono.just(1));
+        Mockito.when(userCacheService.get(Mockito.eq(id), Mockito.any()))
+                .then(invocationOnMock -> invocationOnMock.<Function<Long, Mono<UserEntity>>>getArgument(1).apply(id));
+        Mockito.when(userReadBatchService.findById(id)).thenReturn(Mono.just(userEntity));
+        Mockito.when(conversionService.convert(userEntity, UserCommand.class)).thenReturn(userCommand);
+
+        StepVerifier.create(userPersistenceService.update(id, new UserCommand().setFirstName("firstName")))
+                .expectNext(userCommand)
+                .verifyComplete();
+        Mockito.verify(userRepository, Mockito.never()).update(Mockito.anyLong(), Mockito.anyMap());
+        Mockito.verify(userCacheService, Mockito.times(1)).invalidate(id);
+    }
+
+    @Test
+    public void testUpdate_userNotFound() {
+        long id = 1L;
+        Mockito.when(userRepository.update(Mockito.eq(id), Mockito.anyMap())).thenReturn(Mono.just(0));
+
+        StepVerifier.create(userPersistenceService.update(id, new UserCommand().setFirstName("firstName")))
+                .verifyComplete();
+        Mockito.verifyNoInteractions(userCacheService, userReadBatchService);
+    }
+
+    @Test
+    public void testUpdate_noChanges() {
+        long id = 1L;
+        UserEntity userEntity = new UserEntity().setId(1L);
+        UserCommand userCommand = new UserCommand().setId(1L);
+
+        Mockito.when(userCacheService.get(Mockito.eq(id), Mockito.any()))
+                .then(invocationOnMock -> invocationOnMock.<Function<Long, Mono<UserEntity>>>getArgument(1).apply(id));
+        Mockito.when(userReadBatchService.findById(id)).thenReturn(Mono.just(userEntity));
+        Mockito.when(conversionService.convert(userEntity, UserCommand.class)).thenReturn(userCommand);
+
+        StepVerifier.create(userPersistenceService.update(id, new UserCommand()))
+                .expectNext(userCommand)
+                .verifyComplete();
+        Mockito.verify(userRepository, Mockito.never()).update(Mockito.anyLong(), Mockito.anyMap());
+    }
+
+    @Test
+    public void testFindAll() {
+        PageRequest pageRequest = PageRequest.of(1, 10);
+
+        UserShortEntity userEntity = new UserShortEntity()
+                .setId(1L)
+                .setCardId("card_id")
+                .setStatus(UserStatus.ACTIVE.getValue())
+                .setType(UserType.USER.getValue())
+                .setFirstName("firstName")
+                .setSecondName("secondName");
+
+        Mockito.when(userCountService.count()).thenReturn(Mono.just(1L));
+        Mockito.when(userRepository.findAll(Mockito.eq(0), Mockito.eq(10))).thenReturn(Flux.just(userEntity));
+
+        StepVerifier.create(userPersistenceService.findAll(pageRequest))
+                .expectNextMatches(userShortEntityCustomPage -> userShortEntityCustomPage.getContent().get(0) == userEntity
+                        && userShortEntityCustomPage.getSize() == 1
+                        && userShortEntityCustomPage.getContent().size() == 1
+                        && userShortEntityCustomPage.getTotalElements() == 1
+                        && userShortEntityCustomPage.getNumber() == 1)
+                .verifyComplete();
+        Mockito.verify(userCountService, Mockito.times(1)).count();
+        Mockito.verify(userRepository, Mockito.never()).count();
+        Mockito.verify(userRepository, Mockito.times(1)).findAll(Mockito.eq(0), Mockito.eq(10));
+        Mockito.verifyNoInteractions(conversionService);
+    }
+
+    @Test
+    public void testFindAllWithoutCount() {
+        PageRequest pageRequest = PageRequest.of(1, 1);
+
+        UserShortEntity userEntity1 = new UserShortEntity().setId(2L);
+        UserShortEntity userEntity2 = new UserShortEntity().setId(1L);
+
+        Mockito.when(userRepository.findAll(Mockito.eq(0), Mockito.eq(2))).thenReturn(Flux.just(userEntity1, userEntity2));
+
+        StepVerifier.create(userPersistenceService.findAllWithoutCount(pageRequest))
+                .expectNextMatches(userShortEntityCustomPage -> userShortEntityCustomPage.getContent().size() == 1
+                        && userShortEntityCustomPage.getContent().get(0).getId().equals(2L)
+                        && userShortEntityCustomPage.getSize() == 1
+                        && userShortEntityCustomPage.getNumber() == 1
+                        && userShortEntityCustomPage.getTotalElements() == null
+                        && userShortEntityCustomPage.getNextCursor().equals(CursorUtils.encode(2L)))
+                .verifyComplete();
+        Mockito.verifyNoInteractions(userCountService);
+        Mockito.verify(userRepository, Mockito.times(1)).findAll(Mockito.eq(0), Mockito.eq(2));
+    }
+
+    @Test
+    public void testFindAllAfter() {
+        UserShortEntity userEntity = new UserShortEntity().setId(4L);
+
+        Mockito.when(userRepository.findAllAfter(Mockito.eq(5L), Mockito.eq(11))).thenReturn(Flux.just(userEntity));
+
+        StepVerifier.create(userPersistenceService.findAllAfter(CursorUtils.encode(5L), 10))
+                .expectNextMatches(userShortEntityCustomPage -> userShortEntityCustomPage.getContent().size() == 1
+                        && userShortEntityCustomPage.getContent().get(0).getId().equals(4L)
+                        && userShortEntityCustomPage.getSize() == 1
+                        && userShortEntityCustomPage.getTotalElements() == null
+                        && userShortEntityCustomPage.getNextCursor() == null)
+                .verifyComplete();
+        Mockito.verifyNoInteractions(userCountService);
+        Mockito.verify(userRepository, Mockito.times(1)).findAllAfter(Mockito.eq(5L), Mockito.eq(11));
+    }
+
+    @Test
+    public void testFindAllAfter_invalidCursor() {
+        StepVerifier.create(userPersistenceService.findAllAfter("not-a-cursor", 10))
+                .expectErrorMatches(throwable -> {
+                    if (throwable instanceof InvalidRequestException exception) {
+                        return exception.getStatus().equals(HttpConstants.CURSOR_IS_INVALID);
+                    }
+                    return false;
+                }).verify();
+        Mockito.verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    public void testStreamAll() {
+        UserEntity userEntity1 = new UserEntity().setId(1L);
+        UserEntity userEntity2 = new UserEntity().setId(2L);
+        UserCommand userCommand1 = new UserCommand().setId(1L);
+        UserCommand userCommand2 = new UserCommand().setId(2L);
+
+        Mockito.when(userRepository.streamAll()).thenReturn(Flux.just(userEntity1, userEntity2));
+        Mockito.when(conversionService.convert(userEntity1, UserCommand.class)).thenReturn(userCommand1);
+        Mockito.when(conversionService.convert(userEntity2, UserCommand.class)).thenReturn(userCommand2);
+
+        StepVerifier.create(userPersistenceService.streamAll(), 1)
+                .expectNextMatches(result -> result.getId().equals(1L))
+                .thenRequest(1)
+                .expectNextMatches(result -> result.getId().equals(2L))
+                .verifyComplete();
+        Mockito.verify(userRepository, Mockito.times(1)).streamAll();
+        Mockito.verifyNoInteractions(userCountService);
+    }
+
+    @Test
+    public void testDelete() {
+        long id = 1L;
+        Mockito.when(userRepository.deleteById(id)).thenReturn(Mono.just(1));
+        StepVerifier.create(userPersistenceService.delete(id))
+                .verifyComplete();
+        Mockito.verify(userRepository, Mockito.times(1)).deleteById(id);
+        Mockito.verify(userCountService, Mockito.times(1)).decrement();
+        Mockito.verify(userCacheService, Mockito.times(1)).invalidate(id);
+    }
+
+    @Test
+    public void testDelete_userNotFound() {
+        long id = 1L;
+        Mockito.when(userRepository.deleteById(id)).thenReturn(Mono.just(0));
+        StepVerifier.create(userPersistenceService.delete(id))
+                .verifyComplete();
+        Mockito.verify(userRepository, Mockito.times(1)).deleteById(id);
+        Mockito.verify(userCountService, Mockito.never()).decrement();
+    }
+
+    @Test
+    public void testSaveAll() {
+        UserCommand userCommand1 = new UserCommand();
+        UserCommand userCommand2 = new UserCommand();
+        UserEntity userEntity1 = new UserEntity();
+        UserEntity userEntity2 = new UserEntity();
+
+        mockTransaction();
+        Mockito.when(conversionService.convert(userCommand1, UserEntity.class)).thenReturn(userEntity1);
+        Mockito.when(conversionService.convert(userCommand2, UserEntity.class)).thenReturn(userEntity2);
+        Mockito.when(userRepository.insertAll(List.of(userEntity1, userEntity2))).thenReturn(Flux.just(3L, 4L));
+
+        StepVerifier.create(userPersistenceService.saveAll(List.of(userCommand1, userCommand2)))
+                .expectNextMatches(result -> result.get(0).getId().equals(3L) && result.get(1).getId().equals(4L))
+                .verifyComplete();
+        Mockito.verify(userCountService, Mockito.times(2)).increment();
+    }
+
+    @Test
+    public void testUpdateAll() {
+        mockTransaction();
+        Mockito.when(userRepository.update(1L, Map.of("firstName", "firstName"))).thenReturn(Mono.just(1));
+        Mockito.when(userRepository.update(2L, Map.of("age", 20))).thenReturn(Mono.just(0));
+        Mockito.when(userRepository.existsById(3L)).thenReturn(Mono.just(true));
+
+        StepVerifier.create(userPersistenceService.updateAll(List.of(
+                        new UserCommand().setId(1L).setFirstName("firstName"),
+                        new UserCommand().setId(2L).setAge(20),
+                        new UserCommand().setId(3L))))
+                .expectNext(List.of(true, false, true))
+                .verifyComplete();
+        Mockito.verify(userCacheService, Mockito.times(1)).invalidate(1L);
+        Mockito.verify(userCacheService, Mockito.times(1)).invalidate(2L);
+        Mockito.verify(userCacheService, Mockito.times(1)).invalidate(3L);
+    }
+
+    @Test
+    public void testDeleteAll() {
+        mockTransaction();
+        Mockito.when(userRepository.findIdsByIdInForUpdate(List.of(1L, 2L))).thenReturn(Flux.just(1L));
+        Mockito.when(userRepository.deleteAllByIdIn(List.of(1L))).thenReturn(Mono.just(1));
+
+        StepVerifier.create(userPersistenceService.deleteAll(List.of(1L, 2L, 1L)))
+                .expectNext(List.of(1L))
+                .verifyComplete();
+        Mockito.verify(userCountService, Mockito.times(1)).decrement();
+        Mockito.verify(userCacheService, Mockito.times(1)).invalidate(1L);
+        Mockito.verify(userCacheService, Mockito.times(1)).invalidate(2L);
+    }
+
+    @Test
+    public void testDeleteAll_noneFound() {
+        mockTransaction();
+        Mockito.when(userRepository.findIdsByIdInForUpdate(List.of(1L))).thenReturn(Flux.empty());
+
+        StepVerifier.create(userPersistenceService.deleteAll(List.of(1L)))
+                .expectNext(List.of())
+                .verifyComplete();
+        Mockito.verify(userRepository, Mockito.never()).deleteAllByIdIn(Mockito.any());
+        Mockito.verify(userCountService, Mockito.never()).decrement();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void mockTransaction() {
+        Mockito.when(transactionalOperator.transactional(Mockito.any(Mono.class)))
+                .then(invocationOnMock -> invocationOnMock.getArgument(0));
+    }
+
+}
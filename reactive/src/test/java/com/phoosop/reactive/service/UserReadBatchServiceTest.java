@@ -0,0 +1,107 @@
+package com.phoosop.reactive.service;
+
+import com.phoosop.reactive.config.UserProperties;
+import com.phoosop.reactive.model.entity.UserEntity;
+import com.phoosop.reactive.repository.UserRepository;
+import com.phoosop.reactive.service.persistence.UserReadBatchService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+class UserReadBatchServiceTest {
+
+    private UserReadBatchService userReadBatchService;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUpBeforeEach() {
+        UserProperties.ReadBatch readBatch = new UserProperties.ReadBatch();
+        readBatch.setMaxSize(3);
+        readBatch.setWindow(50);
+        readBatch.setMaxConcurrency(2);
+        UserProperties userProperties = new UserProperties();
+        userProperties.setReadBatch(readBatch);
+        userReadBatchService = new UserReadBatchService(userRepository, userProperties);
+        userReadBatchService.afterPropertiesSet();
+    }
+
+    @AfterEach
+    void tearDownAfterEach() {
+        userReadBatchService.destroy();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testFindById_concurrentLookupsShareQuery() {
+        UserEntity userEntity1 = new UserEntity().setId(1L);
+        UserEntity userEntity2 = new UserEntity().setId(2L);
+        Mockito.when(userRepository.findAllByIdIn(Mockito.anyCollection())).thenReturn(Flux.just(userEntity1, userEntity2));
+
+        StepVerifier.create(Mono.zip(
+                        userReadBatchService.findById(1L),
+                        userReadBatchService.findById(2L),
+                        userReadBatchService.findById(1L)))
+                .expectNextMatches(tuple -> tuple.getT1() == userEntity1
+                        && tuple.getT2() == userEntity2
+                        && tuple.getT3() == userEntity1)
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+
+        ArgumentCaptor<Collection<Long>> ids = ArgumentCaptor.forClass(Collection.class);
+        Mockito.verify(userRepository, Mockito.times(1)).findAllByIdIn(ids.capture());
+        assertThat(ids.getValue()).containsExactly(1L, 2L);
+    }
+
+    @Test
+    public void testFindById_flushedAfterWindow() {
+        UserEntity userEntity = new UserEntity().setId(1L);
+        Mockito.when(userRepository.findAllByIdIn(List.of(1L))).thenReturn(Flux.just(userEntity));
+
+        StepVerifier.create(userReadBatchService.findById(1L))
+                .expectNext(userEntity)
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void testFindById_notFound() {
+        Mockito.when(userRepository.findAllByIdIn(List.of(1L))).thenReturn(Flux.empty());
+
+        StepVerifier.create(userReadBatchService.findById(1L))
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void testFindById_errorReachesEveryCallerAndLoaderKeepsRunning() {
+        UserEntity userEntity = new UserEntity().setId(3L);
+        Mockito.when(userRepository.findAllByIdIn(List.of(1L))).thenReturn(Flux.error(new RuntimeException("db is down")));
+        Mockito.when(userRepository.findAllByIdIn(List.of(3L))).thenReturn(Flux.just(userEntity));
+
+        StepVerifier.create(userReadBatchService.findById(1L))
+                .expectErrorMessage("db is down")
+                .verify(Duration.ofSeconds(5));
+        StepVerifier.create(userReadBatchService.findById(3L))
+                .expectNext(userEntity)
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+    }
+
+}
@@ -0,0 +1,183 @@
+package com.phoosop.reactive.service;
+
+import com.phoosop.reactive.config.UserProperties;
+import com.phoosop.reactive.model.entity.UserEntity;
+import com.phoosop.reactive.repository.UserRepository;
+import com.phoosop.reactive.repository.UserRepositoryCustomImpl;
+import com.phoosop.reactive.service.persistence.UserWriteBatchService;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Result;
+import io.r2dbc.spi.Statement;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.reactivestreams.Publisher;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.r2dbc.dialect.MySqlDialect;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+class UserWriteBatchServiceTest {
+
+    private UserWriteBatchService userWriteBatchService;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ConnectionFactory connectionFactory;
+
+    private Connection connection;
+
+    @BeforeEach
+    void setUpBeforeEach() {
+        // every publisher of the connection completes right away, begin, commit and close included
+        connection = Mockito.mock(Connection.class, invocation -> Publisher.class.isAssignableFrom(invocation.getMethod().getReturnType())
+                ? Mono.empty()
+                : Mockito.RETURNS_DEFAULTS.answer(invocation));
+        Mockito.lenient().doReturn(Mono.just(connection)).when(connectionFactory).create();
+        TransactionalOperator transactionalOperator = TransactionalOperator.create(new R2dbcTransactionManager(connectionFactory));
+        UserProperties.WriteBatch writeBatch = new UserProperties.WriteBatch();
+        writeBatch.setEnabled(true);
+        writeBatch.setMaxSize(3);
+        writeBatch.setWindow(50);
+        writeBatch.setMaxConcurrency(2);
+        UserProperties userProperties = new UserProperties();
+        userProperties.setWriteBatch(writeBatch);
+        userWriteBatchService = new UserWriteBatchService(userRepository, userProperties, transactionalOperator);
+        userWriteBatchService.afterPropertiesSet();
+    }
+
+    @AfterEach
+    void tearDownAfterEach() {
+        userWriteBatchService.destroy();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testInsert_concurrentInsertsShareStatement() {
+        UserEntity userEntity1 = new UserEntity().setFirstName("first");
+        UserEntity userEntity2 = new UserEntity().setFirstName("second");
+        Mockito.when(userRepository.insertAll(Mockito.anyList())).thenReturn(Flux.just(10L, 11L));
+
+        StepVerifier.create(Mono.zip(
+                        userWriteBatchService.insert(userEntity1),
+                        userWriteBatchService.insert(userEntity2)))
+                .expectNextMatches(tuple -> tuple.getT1() == 10L && tuple.getT2() == 11L)
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+
+        ArgumentCaptor<List<UserEntity>> userEntities = ArgumentCaptor.forClass(List.class);
+        Mockito.verify(userRepository, Mockito.times(1)).insertAll(userEntities.capture());
+        assertThat(userEntities.getValue()).containsExactly(userEntity1, userEntity2);
+        Mockito.verify(connection, Mockito.times(1)).beginTransaction();
+        Mockito.verify(connection, Mockito.times(1)).commitTransaction();
+    }
+
+    @Test
+    public void testInsert_errorRollsBackAndReachesEveryCallerAndWriterKeepsRunning() {
+        UserEntity userEntity = new UserEntity();
+        Mockito.when(userRepository.insertAll(List.of(userEntity)))
+                .thenReturn(Flux.error(new RuntimeException("db is down")))
+                .thenReturn(Flux.just(5L));
+
+        StepVerifier.create(userWriteBatchService.insert(userEntity))
+                .expectErrorMessage("db is down")
+                .verify(Duration.ofSeconds(5));
+        Mockito.verify(connection, Mockito.times(1)).beginTransaction();
+        Mockito.verify(connection, Mockito.times(1)).rollbackTransaction();
+        StepVerifier.create(userWriteBatchService.insert(userEntity))
+                .expectNext(5L)
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void testUpdate_patchesToSameUserMerge() {
+        Map<Long, Map<String, Object>> updates = new LinkedHashMap<>();
+        updates.put(1L, Map.of("firstName", "second", "age", 20));
+        updates.put(2L, Map.of("age", 30));
+        Mockito.when(userRepository.updateAll(updates)).thenReturn(Mono.just(Map.of(1L, 1, 2L, 0)));
+
+        StepVerifier.create(Mono.zip(
+                        userWriteBatchService.update(1L, Map.of("firstName", "first", "age", 20)),
+                        userWriteBatchService.update(1L, Map.of("firstName", "second")),
+                        userWriteBatchService.update(2L, Map.of("age", 30))))
+                .expectNextMatches(tuple -> tuple.getT1() == 1 && tuple.getT2() == 1 && tuple.getT3() == 0)
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+
+        Mockito.verify(userRepository, Mockito.times(1)).updateAll(Mockito.anyMap());
+        Mockito.verify(userRepository, Mockito.never()).update(Mockito.anyLong(), Mockito.anyMap());
+    }
+
+    @Test
+    public void testUpdate_windowRunsOnOneConnection() {
+        Mockito.when(connectionFactory.getMetadata()).thenReturn(() -> "MySQL");
+        UserRepositoryCustomImpl userRepositoryCustom = new UserRepositoryCustomImpl(
+                new R2dbcEntityTemplate(DatabaseClient.builder()
+                        .connectionFactory(connectionFactory)
+                        .bindMarkers(MySqlDialect.INSTANCE.getBindMarkersFactory())
+                        .build(), MySqlDialect.INSTANCE));
+        Mockito.when(userRepository.updateAll(Mockito.anyMap()))
+                .thenAnswer(invocation -> userRepositoryCustom.updateAll(invocation.getArgument(0)));
+        Statement ageStatement = statement(1, 0);
+        Statement firstNameStatement = statement(1);
+        Mockito.when(connection.createStatement("UPDATE user SET age = ? WHERE id = ?")).thenReturn(ageStatement);
+        Mockito.when(connection.createStatement("UPDATE user SET first_name = ? WHERE id = ?")).thenReturn(firstNameStatement);
+
+        StepVerifier.create(Mono.zip(
+                        userWriteBatchService.update(1L, Map.of("age", 20)),
+                        userWriteBatchService.update(2L, Map.of("age", 30)),
+                        userWriteBatchService.update(3L, Map.of("firstName", "first"))))
+                .expectNextMatches(tuple -> tuple.getT1() == 1 && tuple.getT2() == 0 && tuple.getT3() == 1)
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+
+        Mockito.verify(connectionFactory, Mockito.times(1)).create();
+        Mockito.verify(connection, Mockito.times(1)).beginTransaction();
+        Mockito.verify(connection, Mockito.times(1)).commitTransaction();
+        InOrder inOrder = Mockito.inOrder(ageStatement);
+        inOrder.verify(ageStatement).bind(0, 20);
+        inOrder.verify(ageStatement).bind(1, 1L);
+        inOrder.verify(ageStatement).add();
+        inOrder.verify(ageStatement).bind(0, 30);
+        inOrder.verify(ageStatement).bind(1, 2L);
+        inOrder.verify(ageStatement).execute();
+        Mockito.verify(firstNameStatement, Mockito.times(1)).execute();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Statement statement(int... rowsUpdated) {
+        Statement statement = Mockito.mock(Statement.class, Mockito.RETURNS_SELF);
+        List<Result> results = new ArrayList<>();
+        for (int rows : rowsUpdated) {
+            Result result = Mockito.mock(Result.class);
+            Mockito.doReturn(Mono.just(rows)).when(result).getRowsUpdated();
+            results.add(result);
+        }
+        Mockito.doReturn(Flux.fromIterable(results)).when(statement).execute();
+        return statement;
+    }
+
+}
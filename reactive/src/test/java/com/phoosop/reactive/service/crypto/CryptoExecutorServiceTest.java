@@ -0,0 +1,106 @@
+package com.phoosop.reactive.service.crypto;
+
+import com.phoosop.reactive.config.CryptoProperties;
+import com.phoosop.reactive.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.phoosop.reactive.exception.StatusConstants.HttpConstants;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CryptoExecutorServiceTest {
+
+    private CryptoExecutorService cryptoExecutorService;
+
+    private MeterRegistry meterRegistry;
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUpBeforeEach() {
+        CryptoProperties.Executor executor = new CryptoProperties.Executor();
+        executor.setThreads(1);
+        executor.setQueueSize(1);
+        CryptoProperties cryptoProperties = new CryptoProperties();
+        cryptoProperties.setExecutor(executor);
+        meterRegistry = new SimpleMeterRegistry();
+        cryptoExecutorService = new CryptoExecutorService(cryptoProperties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDownAfterEach() {
+        release.countDown();
+        cryptoExecutorService.destroy();
+    }
+
+    @Test
+    public void testExecute() {
+        StepVerifier.create(cryptoExecutorService.execute(() -> Thread.currentThread().getName()))
+                .expectNext("crypto-1")
+                .verifyComplete();
+
+        assertThat(meterRegistry.get("crypto.executor.wait").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("crypto.executor.execution").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void testExecute_error() {
+        StepVerifier.create(cryptoExecutorService.execute(() -> {
+                    throw new IllegalStateException("boom");
+                }))
+                .expectError(IllegalStateException.class)
+                .verify();
+    }
+
+    @Test
+    public void testExecute_rejectedWhenQueueIsFull() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        // one task runs, one waits in the queue, the third one has no room
+        cryptoExecutorService.execute(() -> {
+            started.countDown();
+            return release.await(5, TimeUnit.SECONDS);
+        }).subscribe();
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        cryptoExecutorService.execute(() -> true).subscribe();
+
+        StepVerifier.create(cryptoExecutorService.execute(() -> true))
+                .expectErrorMatches(throwable -> throwable instanceof TooManyRequestsException exception
+                        && exception.getStatus() == HttpConstants.TOO_MANY_REQUESTS)
+                .verify();
+        assertThat(meterRegistry.get("crypto.executor.rejected").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("crypto.executor.queue.size").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    public void testExecute_cancelledWhileQueued() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        cryptoExecutorService.execute(() -> {
+            started.countDown();
+            return release.await(5, TimeUnit.SECONDS);
+        }).subscribe();
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        AtomicBoolean ran = new AtomicBoolean();
+        Disposable queued = cryptoExecutorService.execute(() -> ran.getAndSet(true)).subscribe();
+
+        queued.dispose();
+
+        assertThat(meterRegistry.get("crypto.executor.queue.size").gauge().value()).isZero();
+        Mono<Boolean> next = cryptoExecutorService.execute(() -> true);
+        release.countDown();
+        StepVerifier.create(next)
+                .expectNext(true)
+                .verifyComplete();
+        assertThat(ran.get()).isFalse();
+    }
+
+}
@@ -0,0 +1,59 @@
+package com.phoosop.reactive.service.crypto;
+
+import com.phoosop.reactive.config.CryptoConfig;
+import com.phoosop.reactive.exception.InvalidRequestException;
+import com.phoosop.reactive.model.enums.KeyAlgorithm;
+import org.junit.jupiter.api.Test;
+
+import java.security.KeyPair;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.util.List;
+
+import static com.phoosop.reactive.exception.StatusConstants.HttpConstants;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeyGenerationServiceTest {
+
+    private final CryptoConfig cryptoConfig = new CryptoConfig();
+
+    private final KeyGenerationService keyGenerationService = new KeyGenerationService(List.of(
+            cryptoConfig.rsa2048KeyGenerationStrategy(),
+            cryptoConfig.rsa3072KeyGenerationStrategy(),
+            cryptoConfig.ecP256KeyGenerationStrategy(),
+            cryptoConfig.ed25519KeyGenerationStrategy()));
+
+    @Test
+    public void testGenerate_rsa() throws Exception {
+        KeyPair keyPair = keyGenerationService.generate(KeyAlgorithm.RSA_2048);
+
+        assertThat(keyPair.getPrivate().getAlgorithm()).isEqualTo("RSA");
+        assertThat(((RSAPublicKey) keyPair.getPublic()).getModulus().bitLength()).isEqualTo(2048);
+    }
+
+    @Test
+    public void testGenerate_ec() throws Exception {
+        KeyPair keyPair = keyGenerationService.generate(KeyAlgorithm.EC_P256);
+
+        assertThat(keyPair.getPrivate().getAlgorithm()).isEqualTo("EC");
+        assertThat(((ECPublicKey) keyPair.getPublic()).getParams().getOrder().bitLength()).isEqualTo(256);
+    }
+
+    @Test
+    public void testGenerate_ed25519() throws Exception {
+        KeyPair keyPair = keyGenerationService.generate(KeyAlgorithm.ED25519);
+
+        assertThat(keyPair.getPrivate().getAlgorithm()).isEqualTo("EdDSA");
+    }
+
+    @Test
+    public void testGenerate_noStrategy() {
+        KeyGenerationService rsaOnly = new KeyGenerationService(List.of(cryptoConfig.rsa2048KeyGenerationStrategy()));
+
+        assertThatThrownBy(() -> rsaOnly.generate(KeyAlgorithm.ED25519))
+                .isInstanceOfSatisfying(InvalidRequestException.class,
+                        exception -> assertThat(exception.getStatus()).isEqualTo(HttpConstants.KEY_ALGORITHM_IS_INVALID));
+    }
+
+}
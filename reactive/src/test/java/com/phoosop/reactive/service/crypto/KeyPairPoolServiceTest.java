@@ -0,0 +1,94 @@
+package com.phoosop.reactive.service.crypto;
+
+import com.phoosop.reactive.config.CryptoConfig;
+import com.phoosop.reactive.config.CryptoProperties;
+import com.phoosop.reactive.model.enums.KeyAlgorithm;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.test.scheduler.VirtualTimeScheduler;
+
+import java.security.KeyPair;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KeyPairPoolServiceTest {
+
+    private KeyPairPoolService keyPairPoolService;
+
+    private MeterRegistry meterRegistry;
+
+    private CryptoProperties.KeyPool keyPool;
+
+    private VirtualTimeScheduler scheduler;
+
+    @BeforeEach
+    void setUpBeforeEach() {
+        keyPool = new CryptoProperties.KeyPool();
+        keyPool.setEnabled(true);
+        keyPool.setAlgorithm(KeyAlgorithm.RSA_2048);
+        keyPool.setLowWatermark(2);
+        keyPool.setHighWatermark(3);
+        keyPool.setThreads(2);
+        keyPool.setRefillInterval(60000);
+        meterRegistry = new SimpleMeterRegistry();
+        // the worker scheduler and the refill interval run on virtual time, a fill happens on advanceTime
+        scheduler = VirtualTimeScheduler.getOrSet();
+    }
+
+    @AfterEach
+    void tearDownAfterEach() {
+        keyPairPoolService.destroy();
+        VirtualTimeScheduler.reset();
+    }
+
+    @Test
+    public void testPoll_filledUpToHighWatermark() {
+        keyPairPoolService().afterPropertiesSet();
+        scheduler.advanceTime();
+        assertThat(poolSize()).isEqualTo(3);
+
+        KeyPair keyPair = keyPairPoolService.poll(KeyAlgorithm.RSA_2048);
+
+        assertThat(keyPair).isNotNull();
+        assertThat(keyPair.getPrivate().getAlgorithm()).isEqualTo("RSA");
+        assertThat(meterRegistry.get("crypto.key.pool.requests").tag("result", "hit").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("crypto.key.pool.generation").timer().count()).isEqualTo(3);
+    }
+
+    @Test
+    public void testPoll_otherAlgorithm() {
+        keyPairPoolService().afterPropertiesSet();
+        scheduler.advanceTime();
+        assertThat(poolSize()).isEqualTo(3);
+
+        assertThat(keyPairPoolService.poll(KeyAlgorithm.EC_P256)).isNull();
+        assertThat(poolSize()).isEqualTo(3);
+        assertThat(meterRegistry.get("crypto.key.pool.requests").tag("result", "miss").counter().count()).isZero();
+    }
+
+    @Test
+    public void testPoll_disabled() {
+        keyPool.setEnabled(false);
+        keyPairPoolService().afterPropertiesSet();
+
+        assertThat(keyPairPoolService.poll(KeyAlgorithm.RSA_2048)).isNull();
+        assertThat(meterRegistry.get("crypto.key.pool.generation").timer().count()).isZero();
+    }
+
+    private KeyPairPoolService keyPairPoolService() {
+        CryptoProperties cryptoProperties = new CryptoProperties();
+        cryptoProperties.setKeyPool(keyPool);
+        KeyGenerationService keyGenerationService = new KeyGenerationService(List.of(new CryptoConfig().rsa2048KeyGenerationStrategy()));
+        keyPairPoolService = new KeyPairPoolService(cryptoProperties, keyGenerationService, meterRegistry);
+        return keyPairPoolService;
+    }
+
+    private double poolSize() {
+        return meterRegistry.get("crypto.key.pool.size").gauge().value();
+    }
+
+}
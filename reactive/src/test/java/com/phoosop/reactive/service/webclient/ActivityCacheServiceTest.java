@@ -0,0 +1,144 @@
+package com.phoosop.reactive.service.webclient;
+
+import com.phoosop.reactive.config.BoredapiProperties;
+import com.phoosop.reactive.model.command.ActivityCommand;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ActivityCacheServiceTest {
+
+    private final ActivityCommand first = new ActivityCommand().setKey("first");
+    private final ActivityCommand second = new ActivityCommand().setKey("second");
+
+    private BoredapiProperties.Cache cache;
+
+    private MeterRegistry meterRegistry;
+
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUpBeforeEach() {
+        cache = new BoredapiProperties.Cache();
+        cache.setEnabled(true);
+        cache.setTtl(Duration.ofSeconds(60));
+        cache.setStaleWhileRevalidate(Duration.ZERO);
+        cache.setStaleIfError(Duration.ZERO);
+        meterRegistry = new SimpleMeterRegistry();
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    public void testGet_freshEntryIsServedFromCache() {
+        ActivityCacheService activityCacheService = activityCacheService();
+
+        StepVerifier.create(activityCacheService.get(() -> load(first)))
+                .expectNext(first)
+                .verifyComplete();
+        StepVerifier.create(activityCacheService.get(() -> load(second)))
+                .expectNext(first)
+                .verifyComplete();
+
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("boredapi.activity.cache.requests").tag("result", "hit").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("boredapi.activity.cache.requests").tag("result", "miss").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("boredapi.activity.cache.hit.ratio").gauge().value()).isEqualTo(0.5);
+        assertThat(meterRegistry.get("boredapi.activity.cache.refresh").tag("outcome", "success").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void testGet_staleEntryIsServedWhileRefreshing() {
+        cache.setTtl(Duration.ZERO);
+        cache.setStaleWhileRevalidate(Duration.ofSeconds(60));
+        ActivityCacheService activityCacheService = activityCacheService();
+        activityCacheService.get(() -> load(first)).block();
+
+        StepVerifier.create(activityCacheService.get(() -> load(second)))
+                .expectNext(first)
+                .verifyComplete();
+        StepVerifier.create(activityCacheService.get(() -> load(first)))
+                .expectNext(second)
+                .verifyComplete();
+
+        assertThat(meterRegistry.get("boredapi.activity.cache.requests").tag("result", "stale").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    public void testGet_staleEntryIsServedOnError() {
+        cache.setTtl(Duration.ZERO);
+        cache.setStaleIfError(Duration.ofSeconds(60));
+        ActivityCacheService activityCacheService = activityCacheService();
+        activityCacheService.get(() -> load(first)).block();
+
+        StepVerifier.create(activityCacheService.get(() -> Mono.error(new RuntimeException("boredapi is down"))))
+                .expectNext(first)
+                .verifyComplete();
+
+        assertThat(meterRegistry.get("boredapi.activity.cache.refresh").tag("outcome", "error").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void testGet_errorWithoutStaleEntry() {
+        ActivityCacheService activityCacheService = activityCacheService();
+
+        StepVerifier.create(activityCacheService.get(() -> Mono.error(new RuntimeException("boredapi is down"))))
+                .expectErrorMessage("boredapi is down")
+                .verify();
+        StepVerifier.create(activityCacheService.get(() -> load(first)))
+                .expectNext(first)
+                .verifyComplete();
+    }
+
+    @Test
+    public void testGet_concurrentMissesShareOneCall() {
+        ActivityCacheService activityCacheService = activityCacheService();
+        Sinks.One<ActivityCommand> response = Sinks.one();
+
+        Mono<ActivityCommand> caller1 = activityCacheService.get(() -> {
+            loads.incrementAndGet();
+            return response.asMono();
+        });
+        Mono<ActivityCommand> caller2 = activityCacheService.get(() -> load(second));
+
+        StepVerifier.create(Mono.zip(caller1, caller2))
+                .then(() -> response.tryEmitValue(first))
+                .expectNextMatches(tuple -> tuple.getT1() == first && tuple.getT2() == first)
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void testGet_disabled() {
+        cache.setEnabled(false);
+        ActivityCacheService activityCacheService = activityCacheService();
+
+        activityCacheService.get(() -> load(first)).block();
+        activityCacheService.get(() -> load(first)).block();
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    private ActivityCacheService activityCacheService() {
+        BoredapiProperties boredapiProperties = new BoredapiProperties();
+        boredapiProperties.setCache(cache);
+        return new ActivityCacheService(boredapiProperties, meterRegistry);
+    }
+
+    private Mono<ActivityCommand> load(ActivityCommand activityCommand) {
+        return Mono.fromSupplier(() -> {
+            loads.incrementAndGet();
+            return activityCommand;
+        });
+    }
+
+}
@@ -0,0 +1,83 @@
+package com.phoosop.reactive.service.webclient;
+
+import com.phoosop.reactive.config.BoredapiProperties;
+import com.phoosop.reactive.model.command.ActivityCommand;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.scheduler.VirtualTimeScheduler;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ActivityPoolServiceTest {
+
+    private ActivityPoolService activityPoolService;
+
+    private MeterRegistry meterRegistry;
+
+    private BoredapiProperties.Pool pool;
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private VirtualTimeScheduler scheduler;
+
+    @BeforeEach
+    void setUpBeforeEach() {
+        pool = new BoredapiProperties.Pool();
+        pool.setEnabled(true);
+        pool.setSize(3);
+        pool.setConcurrency(2);
+        pool.setRefillInterval(Duration.ofMillis(20));
+        meterRegistry = new SimpleMeterRegistry();
+        // the refill interval runs on virtual time, a fill happens on advanceTime
+        scheduler = VirtualTimeScheduler.getOrSet();
+    }
+
+    @AfterEach
+    void tearDownAfterEach() {
+        activityPoolService.destroy();
+        VirtualTimeScheduler.reset();
+    }
+
+    @Test
+    public void testPoll_filledInBackground() {
+        activityPoolService().start(() -> Mono.fromSupplier(() -> new ActivityCommand().setKey(String.valueOf(loads.incrementAndGet()))));
+        scheduler.advanceTime();
+        assertThat(poolSize()).isEqualTo(3);
+
+        ActivityCommand activityCommand = activityPoolService.poll();
+
+        assertThat(activityCommand).isNotNull();
+        scheduler.advanceTime();
+        assertThat(poolSize()).isEqualTo(3);
+        assertThat(loads.get()).isEqualTo(4);
+        assertThat(meterRegistry.get("boredapi.activity.pool.requests").tag("result", "hit").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void testPoll_disabled() {
+        pool.setEnabled(false);
+        activityPoolService().start(() -> Mono.just(new ActivityCommand()));
+
+        assertThat(activityPoolService.poll()).isNull();
+        assertThat(loads.get()).isZero();
+    }
+
+    private ActivityPoolService activityPoolService() {
+        BoredapiProperties boredapiProperties = new BoredapiProperties();
+        boredapiProperties.setPool(pool);
+        activityPoolService = new ActivityPoolService(boredapiProperties, meterRegistry);
+        return activityPoolService;
+    }
+
+    private double poolSize() {
+        return meterRegistry.get("boredapi.activity.pool.size").gauge().value();
+    }
+
+}
@@ -0,0 +1,164 @@
+package com.phoosop.reactive.service.webclient;
+
+import com.phoosop.reactive.config.BoredapiProperties;
+import com.phoosop.reactive.exception.ServiceException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import reactor.test.publisher.PublisherProbe;
+
+import java.time.Duration;
+
+import static com.phoosop.reactive.exception.StatusConstants.HttpConstants;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoredapiCircuitBreakerServiceTest {
+
+    private BoredapiProperties.CircuitBreaker circuitBreaker;
+
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUpBeforeEach() {
+        circuitBreaker = new BoredapiProperties.CircuitBreaker();
+        circuitBreaker.setEnabled(true);
+        circuitBreaker.setWindowSize(4);
+        circuitBreaker.setMinimumCalls(4);
+        circuitBreaker.setFailureRateThreshold(50);
+        circuitBreaker.setSlowCallRateThreshold(100);
+        circuitBreaker.setSlowCallDuration(Duration.ofMillis(60000));
+        circuitBreaker.setWaitDurationInOpen(Duration.ofSeconds(60));
+        circuitBreaker.setPermittedCallsInHalfOpen(2);
+        circuitBreaker.setFallbackToEmpty(true);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    public void testExecute_opensOnFailureRate() {
+        BoredapiCircuitBreakerService service = boredapiCircuitBreakerService();
+        succeed(service);
+        succeed(service);
+        fail(service);
+        assertThat(service.getState()).isEqualTo(BoredapiCircuitBreakerService.Type.CLOSED);
+        fail(service);
+
+        assertThat(service.getState()).isEqualTo(BoredapiCircuitBreakerService.Type.OPEN);
+        PublisherProbe<String> call = PublisherProbe.of(Mono.just("value"));
+        StepVerifier.create(service.execute(call.mono()))
+                .expectErrorMatches(throwable -> throwable instanceof ServiceException exception
+                        && exception.getStatus() == HttpConstants.ACTIVITY_SERVICE_IS_UNAVAILABLE
+                        && service.isNotPermitted(throwable))
+                .verify();
+        call.assertWasNotSubscribed();
+        assertThat(meterRegistry.get("boredapi.circuit.breaker.calls").tag("kind", "not_permitted").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("boredapi.circuit.breaker.state").tag("state", "open").gauge().value()).isEqualTo(1);
+        assertThat(meterRegistry.get("boredapi.circuit.breaker.state").tag("state", "closed").gauge().value()).isEqualTo(0);
+    }
+
+    @Test
+    public void testExecute_opensOnSlowCallRate() {
+        circuitBreaker.setSlowCallDuration(Duration.ZERO);
+        BoredapiCircuitBreakerService service = boredapiCircuitBreakerService();
+        for (int i = 0; i < 4; i++) {
+            succeed(service);
+        }
+
+        assertThat(service.getState()).isEqualTo(BoredapiCircuitBreakerService.Type.OPEN);
+        assertThat(meterRegistry.get("boredapi.circuit.breaker.calls").tag("kind", "slow").counter().count()).isEqualTo(4);
+    }
+
+    @Test
+    public void testExecute_windowForgetsOldOutcomes() {
+        BoredapiCircuitBreakerService service = boredapiCircuitBreakerService();
+        fail(service);
+        for (int i = 0; i < 4; i++) {
+            succeed(service);
+        }
+        fail(service);
+
+        assertThat(service.getState()).isEqualTo(BoredapiCircuitBreakerService.Type.CLOSED);
+        assertThat(service.getFailureRate()).isEqualTo(25);
+    }
+
+    @Test
+    public void testExecute_halfOpenClosesAfterSuccessfulProbes() {
+        circuitBreaker.setWaitDurationInOpen(Duration.ZERO);
+        BoredapiCircuitBreakerService service = openCircuitBreaker();
+
+        succeed(service);
+        assertThat(service.getState()).isEqualTo(BoredapiCircuitBreakerService.Type.HALF_OPEN);
+        succeed(service);
+
+        assertThat(service.getState()).isEqualTo(BoredapiCircuitBreakerService.Type.CLOSED);
+        assertThat(service.getFailureRate()).isZero();
+    }
+
+    @Test
+    public void testExecute_halfOpenReopensOnFailedProbe() {
+        circuitBreaker.setWaitDurationInOpen(Duration.ZERO);
+        BoredapiCircuitBreakerService service = openCircuitBreaker();
+
+        fail(service);
+
+        assertThat(service.getState()).isIn(BoredapiCircuitBreakerService.Type.OPEN, BoredapiCircuitBreakerService.Type.HALF_OPEN);
+        assertThat(meterRegistry.get("boredapi.circuit.breaker.calls").tag("kind", "failed").counter().count()).isEqualTo(5);
+    }
+
+    @Test
+    public void testExecute_halfOpenLimitsProbes() {
+        circuitBreaker.setWaitDurationInOpen(Duration.ZERO);
+        BoredapiCircuitBreakerService service = openCircuitBreaker();
+
+        StepVerifier.create(Mono.zip(service.execute(Mono.never()), service.execute(Mono.never()), service.execute(Mono.just("value"))))
+                .expectErrorMatches(service::isNotPermitted)
+                .verify(Duration.ofSeconds(5));
+
+        // the cancelled probes are handed back
+        succeed(service);
+        succeed(service);
+        assertThat(service.getState()).isEqualTo(BoredapiCircuitBreakerService.Type.CLOSED);
+    }
+
+    @Test
+    public void testExecute_disabled() {
+        circuitBreaker.setEnabled(false);
+        BoredapiCircuitBreakerService service = boredapiCircuitBreakerService();
+        for (int i = 0; i < 4; i++) {
+            fail(service);
+        }
+
+        assertThat(service.getState()).isEqualTo(BoredapiCircuitBreakerService.Type.CLOSED);
+        succeed(service);
+    }
+
+    private BoredapiCircuitBreakerService openCircuitBreaker() {
+        BoredapiCircuitBreakerService service = boredapiCircuitBreakerService();
+        for (int i = 0; i < 4; i++) {
+            fail(service);
+        }
+        assertThat(service.getState()).isEqualTo(BoredapiCircuitBreakerService.Type.OPEN);
+        return service;
+    }
+
+    private BoredapiCircuitBreakerService boredapiCircuitBreakerService() {
+        BoredapiProperties boredapiProperties = new BoredapiProperties();
+        boredapiProperties.setCircuitBreaker(circuitBreaker);
+        return new BoredapiCircuitBreakerService(boredapiProperties, meterRegistry);
+    }
+
+    private static void succeed(BoredapiCircuitBreakerService service) {
+        StepVerifier.create(service.execute(Mono.just("value")))
+                .expectNext("value")
+                .verifyComplete();
+    }
+
+    private static void fail(BoredapiCircuitBreakerService service) {
+        StepVerifier.create(service.execute(Mono.error(new RuntimeException("boredapi is down"))))
+                .expectErrorMessage("boredapi is down")
+                .verify();
+    }
+
+}
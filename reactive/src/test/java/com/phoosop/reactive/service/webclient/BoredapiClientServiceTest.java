@@ -0,0 +1,212 @@
+package com.phoosop.reactive.service.webclient;
+
+import com.phoosop.reactive.config.BoredapiProperties;
+import com.phoosop.reactive.exception.ServiceException;
+import com.phoosop.reactive.model.RawJson;
+import com.phoosop.reactive.model.command.ActivityCommand;
+import com.phoosop.reactive.model.external.ActivityExternal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Supplier;
+
+import static com.phoosop.reactive.exception.StatusConstants.HttpConstants;
+
+@ExtendWith(MockitoExtension.class)
+class BoredapiClientServiceTest {
+
+    @InjectMocks
+    private BoredapiClientService boredapiClientService;
+
+    @Mock
+    private WebClient boredapiWebClient;
+
+    @Mock
+    private BoredapiProperties boredapiProperties;
+
+    @Mock
+    private ConversionService conversionService;
+
+    @Mock
+    private ActivityCacheService activityCacheService;
+
+    @Mock
+    private ActivityPoolService activityPoolService;
+
+    @Mock
+    private BoredapiCircuitBreakerService boredapiCircuitBreakerService;
+
+    @Mock
+    private BoredapiHedgeService boredapiHedgeService;
+
+    @SuppressWarnings("rawtypes")
+    @Mock
+    private WebClient.RequestHeadersSpec requestHeadersSpecMock;
+
+    @SuppressWarnings("rawtypes")
+    @Mock
+    private WebClient.RequestHeadersUriSpec requestHeadersUriSpecMock;
+
+    @Mock
+    private WebClient.ResponseSpec responseSpecMock;
+
+    @BeforeEach
+    void setUpBeforeEach() {
+        BoredapiProperties.Path path = new BoredapiProperties.Path();
+        path.setGetActivity("activityUrl");
+        Mockito.lenient().when(boredapiProperties.getPath()).thenReturn(path);
+        Mockito.lenient().when(activityCacheService.get(Mockito.any()))
+                .then(invocationOnMock -> invocationOnMock.<Supplier<Mono<ActivityCommand>>>getArgument(0).get());
+        Mockito.lenient().when(boredapiCircuitBreakerService.execute(Mockito.any()))
+                .then(invocationOnMock -> invocationOnMock.getArgument(0));
+        Mockito.lenient().when(boredapiHedgeService.execute(Mockito.any()))
+                .then(invocationOnMock -> invocationOnMock.<Supplier<Mono<ActivityCommand>>>getArgument(0).get());
+    }
+
+    @Test
+    public void testGetActivity() {
+
+        ActivityExternal response = new ActivityExternal()
+                .setActivity("activity")
+                .setAccessibility(1D)
+                .setKey("key")
+                .setLink("link")
+                .setPrice(100)
+                .setType("type")
+                .setParticipants(3);
+
+        ActivityCommand returnConvert = new ActivityCommand()
+                .setActivity("activity")
+                .setAccessibility(1D)
+                .setKey("key")
+                .setLink("link")
+                .setPrice(100)
+                .setType("type")
+                .setParticipants(3);
+
+        Mockito.when(boredapiWebClient.get()).thenReturn(requestHeadersUriSpecMock);
+        Mockito.when(requestHeadersUriSpecMock.uri(Mockito.anyString())).thenReturn(requestHeadersSpecMock);
+        Mockito.when(requestHeadersSpecMock.httpRequest(Mockito.any())).thenReturn(requestHeadersSpecMock);
+        Mockito.when(requestHeadersSpecMock.retrieve()).thenReturn(responseSpecMock);
+        Mockito.when(responseSpecMock.bodyToMono(
+                ArgumentMatchers.<Class<ActivityExternal>>notNull())).thenReturn(Mono.just(response));
+
+        Mockito.when(conversionService.convert(response, ActivityCommand.class)).thenReturn(returnConvert);
+
+        Mono<ActivityCommand> activityCommandMono = boredapiClientService.getActivity();
+
+        StepVerifier.create(activityCommandMono)
+                .expectNextMatches(activityCommand -> activityCommand.getActivity().equals("activity")
+                        && activityCommand.getAccessibility().equals(1D)
+                        && activityCommand.getKey().equals("key")
+                        && activityCommand.getLink().equals("link")
+                        && activityCommand.getPrice().equals(100)
+                        && activityCommand.getType().equals("type")
+                        && activityCommand.getParticipants().equals(3))
+                .verifyComplete();
+
+        Mockito.verify(conversionService, Mockito.times(1)).convert(response, ActivityCommand.class);
+        Mockito.verify(boredapiWebClient, Mockito.times(1)).get();
+        Mockito.verify(requestHeadersUriSpecMock, Mockito.times(1)).uri(Mockito.anyString());
+        Mockito.verify(requestHeadersSpecMock, Mockito.times(1)).retrieve();
+        Mockito.verify(responseSpecMock, Mockito.times(1)).bodyToMono(ArgumentMatchers.<Class<ActivityExternal>>notNull());
+    }
+
+    @Test
+    public void testGetActivity_passthrough() {
+        byte[] body = "{\"activity\":\"activity\",\"key\":\"key\",\"extra\":[1,{\"a\":null}]}".getBytes(StandardCharsets.UTF_8);
+        Mockito.when(boredapiProperties.getPassthrough()).thenReturn(true);
+        Mockito.when(boredapiWebClient.get()).thenReturn(requestHeadersUriSpecMock);
+        Mockito.when(requestHeadersUriSpecMock.uri(Mockito.anyString())).thenReturn(requestHeadersSpecMock);
+        Mockito.when(requestHeadersSpecMock.httpRequest(Mockito.any())).thenReturn(requestHeadersSpecMock);
+        Mockito.when(requestHeadersSpecMock.retrieve()).thenReturn(responseSpecMock);
+        Mockito.when(responseSpecMock.bodyToMono(byte[].class)).thenReturn(Mono.just(body));
+
+        StepVerifier.create(boredapiClientService.getActivity())
+                .expectNextMatches(activityCommand -> activityCommand.getRaw().rawValue() instanceof RawJson rawJson
+                        && rawJson.asUnquotedUTF8() == body
+                        && activityCommand.getActivity() == null)
+                .verifyComplete();
+
+        Mockito.verifyNoInteractions(conversionService);
+    }
+
+    @Test
+    public void testGetActivity_passthroughInvalidBody() {
+        Mockito.when(boredapiProperties.getPassthrough()).thenReturn(true);
+        BoredapiProperties.CircuitBreaker circuitBreaker = new BoredapiProperties.CircuitBreaker();
+        circuitBreaker.setFallbackToEmpty(false);
+        Mockito.when(boredapiProperties.getCircuitBreaker()).thenReturn(circuitBreaker);
+        Mockito.when(boredapiWebClient.get()).thenReturn(requestHeadersUriSpecMock);
+        Mockito.when(requestHeadersUriSpecMock.uri(Mockito.anyString())).thenReturn(requestHeadersSpecMock);
+        Mockito.when(requestHeadersSpecMock.httpRequest(Mockito.any())).thenReturn(requestHeadersSpecMock);
+        Mockito.when(requestHeadersSpecMock.retrieve()).thenReturn(responseSpecMock);
+        Mockito.when(responseSpecMock.bodyToMono(byte[].class)).thenReturn(Mono.just("{\"key\":\"key\"} trailing".getBytes(StandardCharsets.UTF_8)));
+
+        StepVerifier.create(boredapiClientService.getActivity())
+                .expectError(DecodingException.class)
+                .verify();
+    }
+
+    @Test
+    public void testGetActivity_fromPool() {
+        ActivityCommand pooled = new ActivityCommand().setKey("pooled");
+        Mockito.when(activityPoolService.poll()).thenReturn(pooled);
+
+        StepVerifier.create(boredapiClientService.getActivity())
+                .expectNext(pooled)
+                .verifyComplete();
+
+        Mockito.verifyNoInteractions(boredapiWebClient, activityCacheService);
+    }
+
+    @Test
+    public void testGetCachedActivity_skipsPool() {
+        ActivityCommand cached = new ActivityCommand().setKey("cached");
+        Mockito.doReturn(Mono.just(cached)).when(activityCacheService).get(Mockito.any());
+
+        StepVerifier.create(boredapiClientService.getCachedActivity())
+                .expectNext(cached)
+                .verifyComplete();
+
+        Mockito.verifyNoInteractions(activityPoolService);
+    }
+
+    @Test
+    public void testAfterPropertiesSet_startsPool() {
+        boredapiClientService.afterPropertiesSet();
+
+        Mockito.verify(activityPoolService, Mockito.times(1)).start(Mockito.any());
+    }
+
+    @Test
+    public void testGetActivity_circuitBreakerOpen() {
+        ServiceException notPermitted = ServiceException.of(HttpConstants.ACTIVITY_SERVICE_IS_UNAVAILABLE);
+        BoredapiProperties.CircuitBreaker circuitBreaker = new BoredapiProperties.CircuitBreaker();
+        circuitBreaker.setFallbackToEmpty(true);
+        Mockito.when(boredapiProperties.getCircuitBreaker()).thenReturn(circuitBreaker);
+        Mockito.doReturn(Mono.error(notPermitted)).when(activityCacheService).get(Mockito.any());
+        Mockito.when(boredapiCircuitBreakerService.isNotPermitted(notPermitted)).thenReturn(true);
+
+        StepVerifier.create(boredapiClientService.getActivity())
+                .verifyComplete();
+
+        circuitBreaker.setFallbackToEmpty(false);
+        StepVerifier.create(boredapiClientService.getActivity())
+                .expectErrorMatches(throwable -> throwable == notPermitted)
+                .verify();
+    }
+
+}
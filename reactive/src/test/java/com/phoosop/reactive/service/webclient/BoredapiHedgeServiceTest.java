@@ -0,0 +1,223 @@
+package com.phoosop.reactive.service.webclient;
+
+import com.phoosop.reactive.config.BoredapiProperties;
+import com.phoosop.reactive.exception.ServiceException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import reactor.test.publisher.PublisherProbe;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.phoosop.reactive.exception.StatusConstants.HttpConstants;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoredapiHedgeServiceTest {
+
+    private BoredapiProperties.Hedge hedge;
+
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUpBeforeEach() {
+        hedge = new BoredapiProperties.Hedge();
+        hedge.setEnabled(true);
+        hedge.setDelay(Duration.ofMillis(100));
+        hedge.setUsePercentile(false);
+        hedge.setBudget(100);
+        hedge.setMaxBurst(1);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    public void testExecute_fastPrimaryIsNotHedged() {
+        BoredapiHedgeService boredapiHedgeService = boredapiHedgeService();
+        AtomicInteger calls = new AtomicInteger();
+
+        StepVerifier.withVirtualTime(() -> boredapiHedgeService.execute(() -> {
+                    calls.incrementAndGet();
+                    return Mono.just("primary").delayElement(Duration.ofMillis(50));
+                }))
+                .thenAwait(Duration.ofMillis(50))
+                .expectNext("primary")
+                .verifyComplete();
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void testExecute_slowPrimaryIsHedged() {
+        BoredapiHedgeService boredapiHedgeService = boredapiHedgeService();
+        PublisherProbe<String> primary = PublisherProbe.of(Mono.never());
+        AtomicInteger calls = new AtomicInteger();
+
+        StepVerifier.withVirtualTime(() -> boredapiHedgeService.execute(() -> calls.incrementAndGet() == 1
+                        ? primary.mono()
+                        : Mono.just("hedge").delayElement(Duration.ofMillis(30))))
+                .expectSubscription()
+                .expectNoEvent(Duration.ofMillis(129))
+                .thenAwait(Duration.ofMillis(1))
+                .expectNext("hedge")
+                .verifyComplete();
+
+        primary.assertWasCancelled();
+        assertThat(meterRegistry.get("boredapi.activity.hedges").tag("outcome", "sent").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("boredapi.activity.hedges").tag("outcome", "won").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void testExecute_fastPrimaryFailureIsHedged() {
+        BoredapiHedgeService boredapiHedgeService = boredapiHedgeService();
+        AtomicInteger calls = new AtomicInteger();
+
+        StepVerifier.withVirtualTime(() -> boredapiHedgeService.execute(() -> calls.incrementAndGet() == 1
+                        ? Mono.error(new RuntimeException("primary is down"))
+                        : Mono.just("hedge")))
+                .expectSubscription()
+                .expectNoEvent(Duration.ofMillis(100))
+                .expectNext("hedge")
+                .verifyComplete();
+        assertThat(meterRegistry.get("boredapi.activity.hedges").tag("outcome", "won").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void testExecute_bothFailWithPrimaryError() {
+        BoredapiHedgeService boredapiHedgeService = boredapiHedgeService();
+        AtomicInteger calls = new AtomicInteger();
+
+        StepVerifier.withVirtualTime(() -> boredapiHedgeService.execute(() -> Mono.error(new RuntimeException(
+                        calls.incrementAndGet() == 1 ? "primary is down" : "hedge is down"))))
+                .thenAwait(Duration.ofMillis(100))
+                .expectErrorMessage("primary is down")
+                .verify();
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void testExecute_primaryFailureWithoutBudget() {
+        hedge.setBudget(0);
+        BoredapiHedgeService boredapiHedgeService = boredapiHedgeService();
+
+        // no hedge could be sent, so the primary's error is not held back until the hedge delay
+        StepVerifier.withVirtualTime(() -> boredapiHedgeService.execute(() -> Mono.error(new RuntimeException("primary is down"))))
+                .expectErrorMessage("primary is down")
+                .verify(Duration.ofSeconds(1));
+        assertThat(meterRegistry.get("boredapi.activity.hedges").tag("outcome", "rejected").counter().count()).isZero();
+    }
+
+    @Test
+    public void testExecute_slowPrimaryWithoutBudget() {
+        hedge.setBudget(0);
+        BoredapiHedgeService boredapiHedgeService = boredapiHedgeService();
+        AtomicInteger calls = new AtomicInteger();
+
+        StepVerifier.withVirtualTime(() -> boredapiHedgeService.execute(() -> {
+                    calls.incrementAndGet();
+                    return Mono.just("primary").delayElement(Duration.ofMillis(150));
+                }))
+                .thenAwait(Duration.ofMillis(150))
+                .expectNext("primary")
+                .verifyComplete();
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("boredapi.activity.hedges").tag("outcome", "rejected").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void testExecute_circuitBreakerOpenFailsWithoutHedge() {
+        BoredapiHedgeService boredapiHedgeService = boredapiHedgeService();
+        AtomicInteger calls = new AtomicInteger();
+
+        StepVerifier.withVirtualTime(() -> boredapiHedgeService.execute(() -> {
+                    calls.incrementAndGet();
+                    return Mono.error(ServiceException.of(HttpConstants.ACTIVITY_SERVICE_IS_UNAVAILABLE));
+                }))
+                .expectErrorMatches(throwable -> throwable instanceof ServiceException exception
+                        && exception.getStatus() == HttpConstants.ACTIVITY_SERVICE_IS_UNAVAILABLE)
+                .verify(Duration.ofSeconds(1));
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("boredapi.activity.hedges").tag("outcome", "sent").counter().count()).isZero();
+    }
+
+    @Test
+    public void testExecute_clientErrorFailsWithoutHedge() {
+        BoredapiHedgeService boredapiHedgeService = boredapiHedgeService();
+        AtomicInteger calls = new AtomicInteger();
+
+        StepVerifier.withVirtualTime(() -> boredapiHedgeService.execute(() -> {
+                    calls.incrementAndGet();
+                    return Mono.error(WebClientResponseException.create(HttpStatus.NOT_FOUND.value(), "Not Found", null, null, null));
+                }))
+                .expectError(WebClientResponseException.NotFound.class)
+                .verify(Duration.ofSeconds(1));
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void testExecute_budgetLimitsHedges() {
+        hedge.setBudget(50);
+        BoredapiHedgeService boredapiHedgeService = boredapiHedgeService();
+        AtomicInteger calls = new AtomicInteger();
+
+        // half a hedge is earned per call, so the first call may not hedge and the second one may
+        for (int i = 0; i < 2; i++) {
+            StepVerifier.withVirtualTime(() -> boredapiHedgeService.execute(() -> {
+                        calls.incrementAndGet();
+                        return Mono.just("value").delayElement(Duration.ofMillis(200));
+                    }))
+                    .thenAwait(Duration.ofMillis(200))
+                    .expectNext("value")
+                    .verifyComplete();
+        }
+
+        assertThat(calls.get()).isEqualTo(3);
+        assertThat(meterRegistry.get("boredapi.activity.hedges").tag("outcome", "rejected").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("boredapi.activity.hedges").tag("outcome", "sent").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void testExecute_delayFollowsPercentile() {
+        hedge.setUsePercentile(true);
+        hedge.setDelay(Duration.ofMillis(10000));
+        BoredapiHedgeService boredapiHedgeService = boredapiHedgeService();
+        for (int i = 0; i < 20; i++) {
+            StepVerifier.withVirtualTime(() -> boredapiHedgeService.execute(() -> Mono.just("value").delayElement(Duration.ofMillis(50))))
+                    .thenAwait(Duration.ofMillis(50))
+                    .expectNext("value")
+                    .verifyComplete();
+        }
+        AtomicInteger calls = new AtomicInteger();
+
+        StepVerifier.withVirtualTime(() -> boredapiHedgeService.execute(() -> calls.incrementAndGet() == 1
+                        ? Mono.never()
+                        : Mono.just("hedge")))
+                .thenAwait(Duration.ofMillis(100))
+                .expectNext("hedge")
+                .verifyComplete();
+    }
+
+    @Test
+    public void testExecute_disabled() {
+        hedge.setEnabled(false);
+        BoredapiHedgeService boredapiHedgeService = boredapiHedgeService();
+
+        StepVerifier.create(boredapiHedgeService.execute(() -> Mono.just("value")))
+                .expectNext("value")
+                .verifyComplete();
+        assertThat(meterRegistry.get("boredapi.activity.latency").timer().count()).isZero();
+    }
+
+    private BoredapiHedgeService boredapiHedgeService() {
+        BoredapiProperties boredapiProperties = new BoredapiProperties();
+        boredapiProperties.setHedge(hedge);
+        BoredapiProperties.CircuitBreaker circuitBreaker = new BoredapiProperties.CircuitBreaker();
+        circuitBreaker.setWindowSize(10);
+        boredapiProperties.setCircuitBreaker(circuitBreaker);
+        return new BoredapiHedgeService(boredapiProperties, new BoredapiCircuitBreakerService(boredapiProperties, meterRegistry), meterRegistry);
+    }
+
+}
@@ -0,0 +1,123 @@
+package com.phoosop.reactive.validation;
+
+import com.phoosop.reactive.exception.InvalidRequestException;
+import com.phoosop.reactive.model.enums.UserStatus;
+import com.phoosop.reactive.model.enums.UserType;
+import com.phoosop.reactive.model.request.BatchUpdateUserRequest;
+import com.phoosop.reactive.model.request.BatchUpdateUserRequestValidator;
+import com.phoosop.reactive.model.request.CreateUserRequest;
+import com.phoosop.reactive.model.request.CreateUserRequestValidator;
+import com.phoosop.reactive.model.response.UserResponse;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import javax.validation.Validation;
+import javax.validation.ValidationException;
+import javax.validation.Validator;
+import javax.validation.ValidatorFactory;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static com.phoosop.reactive.exception.StatusConstants.HttpConstants;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestValidatorsTest {
+
+    private static ValidatorFactory validatorFactory;
+    private static Validator validator;
+
+    private final RequestValidators requestValidators = new RequestValidators();
+
+    @BeforeAll
+    static void setUpBeforeAll() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+    }
+
+    @AfterAll
+    static void tearDownAfterAll() {
+        validatorFactory.close();
+    }
+
+    @Test
+    public void testFind() {
+        assertThat(requestValidators.find(CreateUserRequest.class)).isInstanceOf(CreateUserRequestValidator.class);
+        assertThat(requestValidators.find(BatchUpdateUserRequest.class)).isInstanceOf(BatchUpdateUserRequestValidator.class);
+        assertThat(requestValidators.find(CreateUserRequest.class)).isSameAs(requestValidators.find(CreateUserRequest.class));
+        assertThat(requestValidators.find(UserResponse.class)).isNull();
+    }
+
+    @Test
+    public void testValidate_sameStatusAsBeanValidation() {
+        List<Consumer<CreateUserRequest>> defects = List.of(
+                request -> {
+                },
+                request -> request.setCardId(null),
+                request -> request.setFirstName(" "),
+                request -> request.setType(null),
+                request -> request.setType("unknown"),
+                request -> request.setStatus(99),
+                request -> request.setDateOfBirth(null),
+                request -> request.setDateOfBirth("yesterday"),
+                request -> request.setAge(null),
+                request -> request.setAge(17),
+                request -> request.setAge(55),
+                request -> request.setMobileBrand(""));
+
+        RequestValidator<CreateUserRequest> requestValidator = requestValidators.find(CreateUserRequest.class);
+        for (Consumer<CreateUserRequest> defect : defects) {
+            CreateUserRequest request = validCreateUserRequest();
+            defect.accept(request);
+
+            assertThat(generated(requestValidator, request)).isEqualTo(beanValidation(request));
+        }
+    }
+
+    @Test
+    public void testValidate_superclassFields() {
+        RequestValidator<BatchUpdateUserRequest> requestValidator = requestValidators.find(BatchUpdateUserRequest.class);
+
+        BatchUpdateUserRequest missingId = new BatchUpdateUserRequest();
+        BatchUpdateUserRequest invalidAge = new BatchUpdateUserRequest().setId(1L);
+        invalidAge.setAge(60);
+        BatchUpdateUserRequest valid = new BatchUpdateUserRequest().setId(1L);
+        valid.setType(UserType.USER.getValue());
+
+        assertThat(generated(requestValidator, missingId)).isEqualTo(HttpConstants.USER_ID_IS_REQUIRED);
+        assertThat(generated(requestValidator, invalidAge)).isEqualTo(HttpConstants.AGE_IS_INVALID);
+        assertThat(generated(requestValidator, valid)).isEqualTo(HttpConstants.SUCCESS);
+        assertThat(beanValidation(invalidAge)).isEqualTo(HttpConstants.AGE_IS_INVALID);
+    }
+
+    private static <T> HttpConstants generated(RequestValidator<T> requestValidator, T request) {
+        try {
+            requestValidator.validate(request);
+            return HttpConstants.SUCCESS;
+        } catch (InvalidRequestException exception) {
+            return exception.getStatus();
+        }
+    }
+
+    private static HttpConstants beanValidation(Object request) {
+        try {
+            return validator.validate(request).isEmpty() ? HttpConstants.SUCCESS : HttpConstants.BAD_REQUEST;
+        } catch (ValidationException exception) {
+            return ((InvalidRequestException) exception.getCause()).getStatus();
+        }
+    }
+
+    private static CreateUserRequest validCreateUserRequest() {
+        return new CreateUserRequest()
+                .setCardId("cardId")
+                .setFirstName("firstName")
+                .setSecondName("secondName")
+                .setType(UserType.USER.getValue())
+                .setStatus(UserStatus.ACTIVE.getValue())
+                .setDateOfBirth("1991-11-11")
+                .setAge(18)
+                .setMobileNumber("12345678901")
+                .setMobileBrand("Apple");
+    }
+
+}
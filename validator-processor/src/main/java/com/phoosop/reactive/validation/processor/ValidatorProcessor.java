@@ -0,0 +1,241 @@
+package com.phoosop.reactive.validation.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Generates a {@code RequestValidator} for every class with fields annotated with {@code @Required}, {@code @IsEnum},
+ * {@code @IsDate}, {@code @Min} or {@code @Max}. The validator is named after the class with a {@code Validator}
+ * suffix, e.g. {@code CreateUserRequestValidator}, and checks the fields of the class and its superclasses through
+ * the same {@code ValidationUtils} methods the constraint validators use, so both throw the same
+ * {@code InvalidRequestException}s. Fields are read through their Lombok getters.
+ * <p>
+ * Any other bean validation constraint on such a class fails the build, the generated validator would silently skip it.
+ */
+@SupportedAnnotationTypes({
+        ValidatorProcessor.REQUIRED,
+        ValidatorProcessor.IS_ENUM,
+        ValidatorProcessor.IS_DATE,
+        ValidatorProcessor.MIN,
+        ValidatorProcessor.MAX})
+public class ValidatorProcessor extends AbstractProcessor {
+
+    static final String REQUIRED = "com.phoosop.reactive.annotations.Required";
+    static final String IS_ENUM = "com.phoosop.reactive.annotations.IsEnum";
+    static final String IS_DATE = "com.phoosop.reactive.annotations.IsDate";
+    static final String MIN = "com.phoosop.reactive.annotations.Min";
+    static final String MAX = "com.phoosop.reactive.annotations.Max";
+
+    private static final Set<String> SUPPORTED = Set.of(REQUIRED, IS_ENUM, IS_DATE, MIN, MAX);
+    private static final String CONSTRAINT = "javax.validation.Constraint";
+    private static final String VALID = "javax.validation.Valid";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Set<TypeElement> types = new LinkedHashSet<>();
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() != ElementKind.FIELD) {
+                    error(element, "@" + annotation.getSimpleName() + " is only supported on fields");
+                } else {
+                    types.add((TypeElement) element.getEnclosingElement());
+                }
+            }
+        }
+        for (TypeElement type : types) {
+            try {
+                write(type);
+            } catch (IOException e) {
+                error(type, "Failed to write the validator: " + e.getMessage());
+            }
+        }
+        return false;
+    }
+
+    private void write(TypeElement type) throws IOException {
+        String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        String validatorName = validatorName(type);
+        String typeName = type.getQualifiedName().toString();
+
+        Map<String, String> constants = new LinkedHashMap<>();
+        List<String> statements = new ArrayList<>();
+        // subclass fields first, then up the hierarchy, each in declaration order
+        for (TypeElement current = type; current != null; current = superclass(current)) {
+            checkUnsupported(current, current.getAnnotationMirrors());
+            for (VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements())) {
+                if (field.getModifiers().contains(Modifier.STATIC)) {
+                    continue;
+                }
+                checkUnsupported(field, field.getAnnotationMirrors());
+                for (AnnotationMirror mirror : field.getAnnotationMirrors()) {
+                    String statement = statement(field, mirror, constants);
+                    if (statement != null) {
+                        statements.add(statement);
+                    }
+                }
+            }
+        }
+
+        JavaFileObject file = processingEnv.getFiler()
+                .createSourceFile(packageName.isEmpty() ? validatorName : packageName + "." + validatorName, type);
+        try (Writer writer = file.openWriter()) {
+            if (!packageName.isEmpty()) {
+                writer.write("package " + packageName + ";\n\n");
+            }
+            writer.write("import com.phoosop.reactive.exception.StatusConstants.HttpConstants;\n");
+            writer.write("import com.phoosop.reactive.util.ValidationUtils;\n");
+            writer.write("import com.phoosop.reactive.validation.RequestValidator;\n\n");
+            writer.write("import javax.annotation.processing.Generated;\n");
+            writer.write("import java.util.Set;\n\n");
+            writer.write("@Generated(\"" + ValidatorProcessor.class.getName() + "\")\n");
+            writer.write("public class " + validatorName + " implements RequestValidator<" + typeName + "> {\n\n");
+            for (Map.Entry<String, String> constant : constants.entrySet()) {
+                writer.write("    private static final Set<Object> " + constant.getKey()
+                        + " = ValidationUtils.values(" + constant.getValue() + ".class);\n");
+            }
+            if (!constants.isEmpty()) {
+                writer.write("\n");
+            }
+            writer.write("    @Override\n");
+            writer.write("    public void validate(" + typeName + " request) {\n");
+            for (String statement : statements) {
+                writer.write("        " + statement + "\n");
+            }
+            writer.write("    }\n\n");
+            writer.write("}\n");
+        }
+    }
+
+    private String statement(VariableElement field, AnnotationMirror mirror, Map<String, String> constants) {
+        String annotation = annotationName(mirror);
+        if (!SUPPORTED.contains(annotation)) {
+            return null;
+        }
+        Map<String, AnnotationValue> values = values(mirror);
+        String value = "request." + getter(field) + "()";
+        String exception = "HttpConstants." + ((VariableElement) values.get("exception").getValue()).getSimpleName();
+        switch (annotation) {
+            case REQUIRED:
+                return "ValidationUtils.required(" + value + ", " + exception + ");";
+            case IS_ENUM:
+                String constant = constantName(field, constants);
+                constants.put(constant, ((TypeMirror) values.get("enumClass").getValue()).toString());
+                return "ValidationUtils.isEnum(" + value + ", " + constant + ", " + exception + ");";
+            case IS_DATE:
+                if (!isString(field.asType())) {
+                    error(field, "@IsDate is only supported on String fields");
+                }
+                String format = processingEnv.getElementUtils().getConstantExpression(values.get("format").getValue());
+                return "ValidationUtils.isDate(" + value + ", " + format + ", " + exception + ");";
+            case MIN:
+                return "ValidationUtils.min(" + value + ", " + values.get("value").getValue() + "L, " + exception + ");";
+            default:
+                return "ValidationUtils.max(" + value + ", " + values.get("value").getValue() + "L, " + exception + ");";
+        }
+    }
+
+    private void checkUnsupported(Element element, List<? extends AnnotationMirror> mirrors) {
+        for (AnnotationMirror mirror : mirrors) {
+            String annotation = annotationName(mirror);
+            if (SUPPORTED.contains(annotation)) {
+                continue;
+            }
+            boolean constraint = VALID.equals(annotation) || mirror.getAnnotationType().asElement().getAnnotationMirrors().stream()
+                    .anyMatch(meta -> CONSTRAINT.equals(annotationName(meta)));
+            if (constraint) {
+                error(element, "@" + mirror.getAnnotationType().asElement().getSimpleName()
+                        + " is not supported by generated validators");
+            }
+        }
+    }
+
+    private Map<String, AnnotationValue> values(AnnotationMirror mirror) {
+        Map<String, AnnotationValue> values = new LinkedHashMap<>();
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                : processingEnv.getElementUtils().getElementValuesWithDefaults(mirror).entrySet()) {
+            values.put(entry.getKey().getSimpleName().toString(), entry.getValue());
+        }
+        return values;
+    }
+
+    private TypeElement superclass(TypeElement type) {
+        TypeMirror superclass = type.getSuperclass();
+        if (superclass.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        TypeElement element = (TypeElement) ((DeclaredType) superclass).asElement();
+        return element.getQualifiedName().contentEquals("java.lang.Object") ? null : element;
+    }
+
+    private boolean isString(TypeMirror type) {
+        return type.getKind() == TypeKind.DECLARED
+                && ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().contentEquals("java.lang.String");
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    private static String annotationName(AnnotationMirror mirror) {
+        return ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString();
+    }
+
+    /**
+     * Nested classes are flattened with underscores, {@code Outer.Inner} gets {@code Outer_InnerValidator}, which is
+     * what {@code RequestValidators} derives from the binary name {@code Outer$Inner}.
+     */
+    private static String validatorName(TypeElement type) {
+        StringBuilder name = new StringBuilder(type.getSimpleName());
+        for (Element enclosing = type.getEnclosingElement(); !(enclosing instanceof PackageElement);
+             enclosing = enclosing.getEnclosingElement()) {
+            name.insert(0, enclosing.getSimpleName() + "_");
+        }
+        return name.append("Validator").toString();
+    }
+
+    private static String getter(VariableElement field) {
+        String name = field.getSimpleName().toString();
+        String prefix = field.asType().getKind() == TypeKind.BOOLEAN ? "is" : "get";
+        return prefix + Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private static String constantName(VariableElement field, Map<String, String> constants) {
+        String base = field.getSimpleName().toString().replaceAll("([a-z0-9])([A-Z])", "$1_$2").toUpperCase() + "_VALUES";
+        String name = base;
+        for (int i = 2; constants.containsKey(name); i++) {
+            name = base + "_" + i;
+        }
+        return name;
+    }
+
+}